@@ -0,0 +1,81 @@
+package ootrs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alias resolution through AliasIndex against the linear scan it replaced, which fetched a fresh
+ * copy of the alias table and compared every alias with equalsIgnoreCase, the last match winning.
+ * Each operation resolves every alias of the type once, as typed in the table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AliasBenchmark {
+
+    @Param({"KEYS", "SETTINGS", "ITEMS"})
+    public String type;
+
+    private Object aliasType;
+
+    private String[] aliases;
+
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        aliasType = Ootrs.aliasType(type);
+        List<String> all = new ArrayList<>();
+        for (String[] group : Ootrs.getAliases(aliasType)) {
+            for (String alias : group) {
+                all.add(alias);
+            }
+        }
+        aliases = all.toArray(new String[0]);
+    }
+
+
+    @Benchmark
+    public void linearScan(Blackhole bh) throws Throwable {
+        for (String alias : aliases) {
+            bh.consume(scan(alias));
+        }
+    }
+
+    @Benchmark
+    public void aliasIndex(Blackhole bh) throws Throwable {
+        for (String alias : aliases) {
+            bh.consume(Ootrs.canonical(aliasType, alias));
+        }
+    }
+
+
+    private String scan(String typed) throws Throwable {
+        String chosen = null;
+        for (String[] group : Ootrs.getAliases(aliasType)) {
+            for (String alias : group) {
+                if (alias.equalsIgnoreCase(typed)) {
+                    chosen = group[0];
+                }
+            }
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,112 @@
+package ootrs.benchmarks;
+
+import org.json.simple.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query paths against the parsed sample log: get() for every top-level alias, subKey resolution
+ * for every settings and item alias, and jsonObjToString of small and large results.
+ * Each alias benchmark runs every alias once per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+
+    private Object spoiler;
+
+    private String[][] keyQueries;
+    private String[][] settingsQueries;
+    private String[][] itemQueries;
+
+    private JSONObject settings;
+    private JSONObject worldLocations;
+
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        spoiler = Ootrs.newSpoiler(SampleLogs.sample().toString(), false);
+
+        /* Every top-level key gets a world argument so multiworld keys answer instead of throwing */
+        keyQueries = queries(Ootrs.keyAliases(), "", "1");
+        settingsQueries = queries(Ootrs.settingsAliases(), "settings", null);
+        itemQueries = queries(Ootrs.itemAliases(), "item_pool", "1");
+
+        settings = Ootrs.get(spoiler, new String[] {"settings"});
+        worldLocations = (JSONObject)((JSONObject)Ootrs.getKey(spoiler, "locations")).get("World 1");
+    }
+
+
+    private static String[][] queries(String[][] aliases, String key, String world) {
+        List<String[]> queries = new ArrayList<>();
+        for (String[] group : aliases) {
+            for (String alias : group) {
+                if (key.isEmpty()) {
+                    queries.add(new String[] {alias, world});
+                }
+                else if (world == null) {
+                    queries.add(new String[] {key, alias});
+                }
+                else {
+                    queries.add(new String[] {key, world, alias});
+                }
+            }
+        }
+        return queries.toArray(new String[0][]);
+    }
+
+
+    @Benchmark
+    public void getEveryKeyAlias(Blackhole bh) throws Throwable {
+        for (String[] query : keyQueries) {
+            try {
+                bh.consume(Ootrs.get(spoiler, query));
+            }
+            catch (IllegalArgumentException e) {
+                bh.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public void subKeyEverySettingsAlias(Blackhole bh) throws Throwable {
+        for (String[] query : settingsQueries) {
+            bh.consume(Ootrs.get(spoiler, query));
+        }
+    }
+
+    @Benchmark
+    public void subKeyEveryItemAlias(Blackhole bh) throws Throwable {
+        for (String[] query : itemQueries) {
+            bh.consume(Ootrs.get(spoiler, query));
+        }
+    }
+
+    @Benchmark
+    public String formatSettings() throws Throwable {
+        return Ootrs.jsonObjToString(settings);
+    }
+
+    @Benchmark
+    public String formatWorldLocations() throws Throwable {
+        return Ootrs.jsonObjToString(worldLocations);
+    }
+}
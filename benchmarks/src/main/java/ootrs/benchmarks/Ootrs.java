@@ -0,0 +1,161 @@
+package ootrs.benchmarks;
+
+import org.json.simple.JSONObject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Path;
+
+/**
+ * Calls into the main project from the benchmarks.
+ *
+ * The main project's classes live in the default package, which code in a named package cannot
+ * reference, and JMH refuses benchmarks in the default package. The handles are bound once and
+ * held in static finals, so the JIT inlines them like direct calls.
+ */
+final class Ootrs {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private static final Class<?> SPOILER = load("OOTRSpoiler");
+
+    private static final MethodHandle NEW_SPOILER = bind(() -> LOOKUP.findConstructor(SPOILER,
+            MethodType.methodType(void.class, String.class, boolean.class, boolean.class))
+            .asType(MethodType.methodType(Object.class, String.class, boolean.class, boolean.class)));
+
+    private static final MethodHandle GET = bind(() -> LOOKUP.findVirtual(SPOILER, "get",
+            MethodType.methodType(JSONObject.class, String[].class))
+            .asType(MethodType.methodType(JSONObject.class, Object.class, String[].class)));
+
+    private static final MethodHandle GET_KEY = bind(() -> LOOKUP.findVirtual(SPOILER, "getKey",
+            MethodType.methodType(Object.class, String.class))
+            .asType(MethodType.methodType(Object.class, Object.class, String.class)));
+
+    private static final MethodHandle JSON_TO_STRING = bind(() -> LOOKUP.findStatic(SPOILER, "jsonObjToString",
+            MethodType.methodType(String.class, JSONObject.class)));
+
+    private static final Class<?> GENERATOR = load("SpoilerGenerator");
+
+    private static final MethodHandle NEW_GENERATOR = bind(() -> LOOKUP.findConstructor(GENERATOR,
+            MethodType.methodType(void.class, int.class, int.class, int.class, int.class, long.class))
+            .asType(MethodType.methodType(Object.class, int.class, int.class, int.class, int.class, long.class)));
+
+    private static final MethodHandle GENERATE = bind(() -> LOOKUP.findVirtual(GENERATOR, "write",
+            MethodType.methodType(void.class, Path.class))
+            .asType(MethodType.methodType(void.class, Object.class, Path.class)));
+
+    private static final Class<?> SNAPSHOT = load("SpoilerSnapshot");
+
+    private static final MethodHandle SET_SNAPSHOTS_ENABLED = bind(() -> LOOKUP.findStatic(SNAPSHOT, "setEnabled",
+            MethodType.methodType(void.class, boolean.class)));
+
+    private static final MethodHandle SNAPSHOT_PATH = bind(() -> LOOKUP.findStatic(SNAPSHOT, "pathFor",
+            MethodType.methodType(Path.class, Path.class)));
+
+    private static final Class<?> ALIAS_TYPE = load("Aliases$AliasType");
+
+    private static final MethodHandle GET_ALIASES = bind(() -> LOOKUP.findStatic(load("Aliases"), "getAliases",
+            MethodType.methodType(String[][].class, ALIAS_TYPE))
+            .asType(MethodType.methodType(String[][].class, Object.class)));
+
+    private static final MethodHandle CANONICAL = bind(() -> LOOKUP.findStatic(load("AliasIndex"), "canonical",
+            MethodType.methodType(String.class, ALIAS_TYPE, String.class))
+            .asType(MethodType.methodType(String.class, Object.class, String.class)));
+
+    private static final MethodHandle KEY_ALIASES = aliases("keyAliases");
+
+    private static final MethodHandle SETTINGS_ALIASES = aliases("settingsAliases");
+
+    private static final MethodHandle ITEM_ALIASES = aliases("itemAliases");
+
+
+    private Ootrs() {
+    }
+
+
+    static Object newSpoiler(String path, boolean lazy) throws Throwable {
+        return (Object)NEW_SPOILER.invokeExact(path, true, lazy);
+    }
+
+    static JSONObject get(Object spoiler, String[] args) throws Throwable {
+        return (JSONObject)GET.invokeExact(spoiler, args);
+    }
+
+    static Object getKey(Object spoiler, String key) throws Throwable {
+        return (Object)GET_KEY.invokeExact(spoiler, key);
+    }
+
+    static String jsonObjToString(JSONObject obj) throws Throwable {
+        return (String)JSON_TO_STRING.invokeExact(obj);
+    }
+
+    static void generate(Path out, int worlds, int locations, int depth, int hints) throws Throwable {
+        Object generator = (Object)NEW_GENERATOR.invokeExact(worlds, locations, depth, hints, 1L);
+        GENERATE.invokeExact(generator, out);
+    }
+
+    static void setSnapshotsEnabled(boolean on) throws Throwable {
+        SET_SNAPSHOTS_ENABLED.invokeExact(on);
+    }
+
+    static Path snapshotPath(Path log) throws Throwable {
+        return (Path)SNAPSHOT_PATH.invokeExact(log);
+    }
+
+    /**
+     * @param name name of an Aliases.AliasType constant, e.g. "ITEMS"
+     * @return the constant
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object aliasType(String name) {
+        return Enum.valueOf((Class)ALIAS_TYPE, name);
+    }
+
+    static String[][] getAliases(Object type) throws Throwable {
+        return (String[][])GET_ALIASES.invokeExact(type);
+    }
+
+    static String canonical(Object type, String alias) throws Throwable {
+        return (String)CANONICAL.invokeExact(type, alias);
+    }
+
+    static String[][] keyAliases() throws Throwable {
+        return (String[][])KEY_ALIASES.invokeExact();
+    }
+
+    static String[][] settingsAliases() throws Throwable {
+        return (String[][])SETTINGS_ALIASES.invokeExact();
+    }
+
+    static String[][] itemAliases() throws Throwable {
+        return (String[][])ITEM_ALIASES.invokeExact();
+    }
+
+
+    private static MethodHandle aliases(String name) {
+        return bind(() -> LOOKUP.findStatic(load("Aliases"), name, MethodType.methodType(String[][].class)));
+    }
+
+    private static Class<?> load(String name) {
+        try {
+            return Class.forName(name);
+        }
+        catch (ClassNotFoundException e) {
+            throw new IllegalStateException("EasyOOTRSpoilers is not on the classpath", e);
+        }
+    }
+
+    private static MethodHandle bind(HandleLookup lookup) {
+        try {
+            return lookup.find();
+        }
+        catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private interface HandleLookup {
+        MethodHandle find() throws ReflectiveOperationException;
+    }
+}
@@ -0,0 +1,60 @@
+package ootrs.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction of an OOTRSpoiler from a file: the 2-world sample and generated 4 to 64 world logs.
+ * Snapshots are turned off, so every operation parses the JSON rather than loading a snapshot
+ * written by the first one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    @Param({"2", "4", "8", "16", "64"})
+    public int worlds;
+
+    @Param({"false", "true"})
+    public boolean lazy;
+
+    private Path log;
+    private String path;
+
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        Ootrs.setSnapshotsEnabled(false);
+        log = SampleLogs.withWorlds(worlds);
+        path = log.toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Throwable {
+        SampleLogs.delete(log);
+    }
+
+
+    @Benchmark
+    public Object construct() throws Throwable {
+        return Ootrs.newSpoiler(path, lazy);
+    }
+}
@@ -0,0 +1,58 @@
+package ootrs.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Spoiler logs used as benchmark input.
+ */
+final class SampleLogs {
+
+    private static final int SAMPLE_WORLDS = 2;
+
+    private SampleLogs() {
+    }
+
+
+    /**
+     * Finds samplespoilers/multiworldv8.json, whether run from the repository root or from benchmarks/.
+     * Set -Dootrs.sample to use another log.
+     */
+    static Path sample() {
+        String configured = System.getProperty("ootrs.sample");
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        Path path = Paths.get("samplespoilers", "multiworldv8.json");
+        return Files.exists(path) ? path : Paths.get("..").resolve(path);
+    }
+
+
+    /**
+     * Returns a log with the given number of worlds: the sample itself for its own world count,
+     * otherwise a temporary log written by SpoilerGenerator with roughly the sample's size per world.
+     */
+    static Path withWorlds(int worlds) throws Throwable {
+        Path sample = sample();
+        if (worlds == SAMPLE_WORLDS) {
+            return sample;
+        }
+
+        Path out = Files.createTempFile("ootrs-" + worlds + "-worlds-", ".json");
+        out.toFile().deleteOnExit();
+        Ootrs.generate(out, worlds, 750, 20, 40);
+        return out;
+    }
+
+
+    /**
+     * Deletes a generated log and any snapshot of it; the sample itself is kept.
+     */
+    static void delete(Path log) throws Throwable {
+        if (!log.equals(sample())) {
+            Files.deleteIfExists(log);
+            Files.deleteIfExists(Ootrs.snapshotPath(log));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A precompiled lookup of every alias in {@link Aliases}, built once when the class is loaded.
+ *
+ * Each alias is normalized (lower-cased, with whitespace and punctuation removed) so that
+ * "Ralphie's hole", "ralphies hole" and "RALPHIES-HOLE" all resolve to the same entry, and
+ * resolving an alias is a single hash lookup instead of a scan over every alias array.
+ *
+ * Normalizing also folds together aliases that only differ in punctuation, such as "Zora's domain"
+ * and "Zoras Domain". Where such aliases belong to different groups, a group's canonical name
+ * always resolves to that group, so "Zoras Domain" is the region Zoras Domain even though
+ * "ZD Behind King Zora" lists "zoras domain" as an alias.
+ */
+public final class AliasIndex {
+
+    /**
+     * A group of aliases that all refer to the same thing. The first alias of the group
+     * is the canonical name, which is the name used as a key in the spoiler log.
+     */
+    public static final class Entry {
+        private final String canonical;
+        private final String[] aliases;
+        private final Set<String> normalized;
+
+        private Entry(String[] aliases) {
+            this.canonical = aliases[0];
+            this.aliases = aliases.clone();
+            Set<String> norm = new HashSet<>();
+            for (String alias : aliases) {
+                norm.add(normalize(alias));
+            }
+            this.normalized = Collections.unmodifiableSet(norm);
+        }
+
+        /**
+         * @return the canonical (spoiler log) name of this entry
+         */
+        public String canonical() {
+            return canonical;
+        }
+
+        /**
+         * @return a copy of every alias of this entry, canonical name first
+         */
+        public String[] aliases() {
+            return aliases.clone();
+        }
+
+        /**
+         * Checks whether a name refers to this entry, ignoring case, whitespace and punctuation.
+         * @param name name to test, e.g. a key from the spoiler log
+         * @return true if name is one of this entry's aliases
+         */
+        public boolean matches(String name) {
+            return normalized.contains(normalize(name));
+        }
+    }
+
+
+    private static final Map<Aliases.AliasType, Map<String, Entry>> INDEX = build();
+
+
+    private AliasIndex() {
+    }
+
+
+    /**
+     * Folds an alias into the form used as the key of the index: lower case,
+     * with everything except letters and digits removed.
+     * @param alias alias to normalize
+     * @return normalized form of alias
+     */
+    public static String normalize(String alias) {
+        StringBuilder sb = new StringBuilder(alias.length());
+        for (int i = 0; i < alias.length(); i++) {
+            char c = alias.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+
+    /**
+     * Finds the alias group a user-typed name belongs to.
+     * A canonical name resolves to its own group. Otherwise, if several groups share an alias,
+     * the last group declared in {@link Aliases} wins, which is the same choice the original
+     * linear scan made.
+     *
+     * @param type which kind of alias to look up
+     * @param alias name or alias typed by the user
+     * @return the matching entry, or null if alias is not recognized
+     */
+    public static Entry resolve(Aliases.AliasType type, String alias) {
+        return INDEX.get(type).get(normalize(alias));
+    }
+
+
+    /**
+     * Same as {@link #resolve}, but returns only the canonical spoiler log name.
+     * @param type which kind of alias to look up
+     * @param alias name or alias typed by the user
+     * @return canonical name of the alias, or null if alias is not recognized
+     */
+    public static String canonical(Aliases.AliasType type, String alias) {
+        Entry entry = resolve(type, alias);
+        return (entry == null) ? null : entry.canonical();
+    }
+
+
+    /**
+     * @param type which kind of alias to list
+     * @return every normalized alias of type, mapped to its entry
+     */
+    static Map<String, Entry> byAlias(Aliases.AliasType type) {
+        return INDEX.get(type);
+    }
+
+
+    private static Map<Aliases.AliasType, Map<String, Entry>> build() {
+        Map<Aliases.AliasType, Map<String, Entry>> index = new EnumMap<>(Aliases.AliasType.class);
+
+        for (Aliases.AliasType type : Aliases.AliasType.values()) {
+            Map<String, Entry> byAlias = new HashMap<>();
+            List<Entry> entries = new ArrayList<>();
+            for (String[] group : Aliases.getAliases(type)) {
+                Entry entry = new Entry(group);
+                entries.add(entry);
+                for (String alias : group) {
+                    byAlias.put(normalize(alias), entry);
+                }
+            }
+            /* Canonical names are claimed last, so no other group's alias can shadow them */
+            for (Entry entry : entries) {
+                byAlias.put(normalize(entry.canonical), entry);
+            }
+            index.put(type, Collections.unmodifiableMap(byAlias));
+        }
+
+        return Collections.unmodifiableMap(index);
+    }
+}
@@ -0,0 +1,334 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+
+/**
+ * Autocompletion and typo-tolerant matching of the aliases in {@link Aliases}, for when
+ * {@link AliasIndex#resolve} finds no exact match.
+ *
+ * For every {@link Aliases.AliasType} the normalized aliases (see {@link AliasIndex#normalize}) are
+ * held in a prefix trie, which lists the aliases starting with what was typed, shortest first, and
+ * in a BK-tree keyed by Levenshtein distance. A BK-tree node's children are filed under their
+ * distance to it, and by the triangle inequality a search within distance d of a query at distance
+ * q of a node only needs the children filed under q - d to q + d, so a search computes the distance
+ * to a small part of the aliases instead of every one.
+ *
+ * Both structures are built once, when the class is first used.
+ */
+public final class AliasMatcher {
+
+    public static final int MAX_SUGGESTIONS = 3; /* Closest aliases named by didYouMean */
+
+    private static final Map<Aliases.AliasType, AliasMatcher> MATCHERS = build();
+
+    private final TrieNode trie = new TrieNode();
+    private BkNode bkRoot;
+
+
+    private AliasMatcher() {
+    }
+
+
+    /**
+     * Lists the aliases that start with what was typed, e.g. "ralphie" gives "DMT Cow Grotto"
+     * through its alias "Ralphie's hole".
+     *
+     * @param type which kind of alias to complete
+     * @param prefix start of an alias, compared like {@link AliasIndex#normalize}
+     * @param k most entries to return
+     * @return up to k entries with an alias starting with prefix, those with the shortest alias first
+     */
+    public static List<AliasIndex.Entry> complete(Aliases.AliasType type, String prefix, int k) {
+        return MATCHERS.get(type).complete(AliasIndex.normalize(prefix), k);
+    }
+
+
+    /**
+     * Finds the entries an alias with a typo most likely meant, e.g. "ralphis hole" gives "DMT Cow Grotto".
+     * Entries with an alias within a few edits of what was typed come first, closest first, followed by
+     * entries with an alias that starts with it.
+     *
+     * @param type which kind of alias to match
+     * @param typed name typed by the user
+     * @param k most entries to return
+     * @return up to k entries, best match first; empty if nothing is close
+     */
+    public static List<AliasIndex.Entry> suggest(Aliases.AliasType type, String typed, int k) {
+        String query = AliasIndex.normalize(typed);
+        if (query.isEmpty() || k <= 0) {
+            return Collections.emptyList();
+        }
+
+        AliasMatcher matcher = MATCHERS.get(type);
+        Set<AliasIndex.Entry> found = new LinkedHashSet<>();
+        for (BkNode match : matcher.within(query, maxDistance(query))) {
+            found.add(match.entry);
+            if (found.size() == k) {
+                return new ArrayList<>(found);
+            }
+        }
+        for (AliasIndex.Entry entry : matcher.complete(query, k)) {
+            found.add(entry);
+            if (found.size() == k) {
+                break;
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+
+    /**
+     * Names the closest aliases to a name that was not recognized, for the end of an error message.
+     *
+     * @param type which kind of alias was expected
+     * @param typed name typed by the user
+     * @return " Did you mean "a", "b" or "c"?" with up to {@link #MAX_SUGGESTIONS} canonical names,
+     *         or "" if nothing is close
+     */
+    public static String didYouMean(Aliases.AliasType type, String typed) {
+        List<AliasIndex.Entry> close = suggest(type, typed, MAX_SUGGESTIONS);
+        if (close.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(" Did you mean ");
+        for (int i = 0; i < close.size(); i++) {
+            if (i > 0) {
+                sb.append((i == close.size() - 1) ? " or " : ", ");
+            }
+            sb.append('"').append(close.get(i).canonical()).append('"');
+        }
+        return sb.append("?").toString();
+    }
+
+
+    /**
+     * How many edits a typo may be from an alias: one for short names, up to three for long ones.
+     */
+    static int maxDistance(String normalized) {
+        return Math.max(1, Math.min(3, normalized.length() / 4 + 1));
+    }
+
+
+    /**
+     * @return Levenshtein distance between two strings
+     */
+    static int distance(String a, String b) {
+        return new Query(a).distance(b);
+    }
+
+
+    private List<AliasIndex.Entry> complete(String prefix, int k) {
+        TrieNode node = trie;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node == null || k <= 0) {
+            return Collections.emptyList();
+        }
+
+        /* Breadth first, so shorter aliases come before longer ones */
+        Set<AliasIndex.Entry> found = new LinkedHashSet<>();
+        ArrayDeque<TrieNode> queue = new ArrayDeque<>();
+        queue.add(node);
+        while (!queue.isEmpty() && found.size() < k) {
+            TrieNode next = queue.poll();
+            if (next.entry != null) {
+                found.add(next.entry);
+            }
+            queue.addAll(next.children.values());
+        }
+        return new ArrayList<>(found);
+    }
+
+
+    /**
+     * @return the aliases within maxDistance of query, closest first
+     */
+    private List<BkNode> within(String query, int maxDistance) {
+        Query pattern = new Query(query);
+        List<List<BkNode>> byDistance = new ArrayList<>();
+        for (int d = 0; d <= maxDistance; d++) {
+            byDistance.add(new ArrayList<>());
+        }
+
+        ArrayDeque<BkNode> stack = new ArrayDeque<>();
+        if (bkRoot != null) {
+            stack.push(bkRoot);
+        }
+        while (!stack.isEmpty()) {
+            BkNode node = stack.pop();
+            int d = pattern.distance(node.alias);
+            if (d <= maxDistance) {
+                byDistance.get(d).add(node);
+            }
+            for (Map.Entry<Integer, BkNode> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - d) <= maxDistance) {
+                    stack.push(child.getValue());
+                }
+            }
+        }
+
+        List<BkNode> matches = new ArrayList<>();
+        for (List<BkNode> atDistance : byDistance) {
+            matches.addAll(atDistance);
+        }
+        return matches;
+    }
+
+
+    private void add(String alias, AliasIndex.Entry entry) {
+        TrieNode node = trie;
+        for (int i = 0; i < alias.length(); i++) {
+            node = node.children.computeIfAbsent(alias.charAt(i), c -> new TrieNode());
+        }
+        node.entry = entry;
+
+        BkNode added = new BkNode(alias, entry);
+        if (bkRoot == null) {
+            bkRoot = added;
+            return;
+        }
+        Query pattern = new Query(alias);
+        BkNode parent = bkRoot;
+        while (true) {
+            int d = pattern.distance(parent.alias);
+            BkNode child = parent.children.get(d);
+            if (child == null) {
+                parent.children.put(d, added);
+                return;
+            }
+            parent = child;
+        }
+    }
+
+
+    private static Map<Aliases.AliasType, AliasMatcher> build() {
+        Map<Aliases.AliasType, AliasMatcher> matchers = new EnumMap<>(Aliases.AliasType.class);
+        for (Aliases.AliasType type : Aliases.AliasType.values()) {
+            AliasMatcher matcher = new AliasMatcher();
+            /* Sorted, so the trie and the BK-tree come out the same on every run */
+            for (Map.Entry<String, AliasIndex.Entry> alias : new TreeMap<>(AliasIndex.byAlias(type)).entrySet()) {
+                if (!alias.getKey().isEmpty()) {
+                    matcher.add(alias.getKey(), alias.getValue());
+                }
+            }
+            matchers.put(type, matcher);
+        }
+        return Collections.unmodifiableMap(matchers);
+    }
+
+
+    /**
+     * Levenshtein distances from one string to many others.
+     *
+     * Strings of up to 64 characters use the bit-parallel algorithm of Myers, as given by Hyyro for
+     * edit distance: a column of the dynamic programming matrix is held as the bit vectors of its
+     * vertical differences, so each character of the other string costs a handful of long operations
+     * instead of a pass over the column. Longer strings fall back to the matrix.
+     */
+    private static final class Query {
+        private final String text;
+        private final long[] asciiMasks = new long[128]; /* character -> positions it is at in text */
+        private final long lastBit;
+
+        Query(String text) {
+            this.text = text;
+            this.lastBit = (text.isEmpty() || text.length() > 64) ? 0 : 1L << (text.length() - 1);
+            for (int i = 0; i < Math.min(text.length(), 64); i++) {
+                char c = text.charAt(i);
+                if (c < 128) {
+                    asciiMasks[c] |= 1L << i;
+                }
+            }
+        }
+
+        int distance(String other) {
+            if (text.isEmpty()) {
+                return other.length();
+            }
+            if (lastBit == 0) {
+                return matrixDistance(text, other);
+            }
+
+            long positive = -1L; /* vertical differences of +1 */
+            long negative = 0L; /* vertical differences of -1 */
+            int score = text.length();
+            for (int j = 0; j < other.length(); j++) {
+                long equal = mask(other.charAt(j));
+                long xv = equal | negative;
+                long xh = (((equal & positive) + positive) ^ positive) | equal;
+                long horizontalPositive = negative | ~(xh | positive);
+                long horizontalNegative = positive & xh;
+                if ((horizontalPositive & lastBit) != 0) {
+                    score++;
+                }
+                else if ((horizontalNegative & lastBit) != 0) {
+                    score--;
+                }
+                horizontalPositive = (horizontalPositive << 1) | 1;
+                horizontalNegative <<= 1;
+                positive = horizontalNegative | ~(xv | horizontalPositive);
+                negative = horizontalPositive & xv;
+            }
+            return score;
+        }
+
+        private long mask(char c) {
+            if (c < 128) {
+                return asciiMasks[c];
+            }
+            long mask = 0;
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == c) {
+                    mask |= 1L << i;
+                }
+            }
+            return mask;
+        }
+
+        private static int matrixDistance(String a, String b) {
+            int[] previous = new int[b.length() + 1];
+            int[] current = new int[b.length() + 1];
+            for (int j = 0; j <= b.length(); j++) {
+                previous[j] = j;
+            }
+            for (int i = 1; i <= a.length(); i++) {
+                current[0] = i;
+                char c = a.charAt(i - 1);
+                for (int j = 1; j <= b.length(); j++) {
+                    int substitute = previous[j - 1] + ((c == b.charAt(j - 1)) ? 0 : 1);
+                    current[j] = Math.min(substitute, Math.min(previous[j], current[j - 1]) + 1);
+                }
+                int[] swap = previous;
+                previous = current;
+                current = swap;
+            }
+            return previous[b.length()];
+        }
+    }
+
+
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new TreeMap<>();
+        private AliasIndex.Entry entry; /* entry of the alias ending here, or null */
+    }
+
+
+    private static class BkNode {
+        private final String alias; /* normalized alias */
+        private final AliasIndex.Entry entry;
+        private final Map<Integer, BkNode> children = new TreeMap<>(); /* distance to this alias -> child */
+
+        BkNode(String alias, AliasIndex.Entry entry) {
+            this.alias = alias;
+            this.entry = entry;
+        }
+    }
+}
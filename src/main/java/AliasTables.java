@@ -0,0 +1,305 @@
+import org.json.simple.parser.ContainerFactory;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+
+/**
+ * Loads the alias tables of {@link Aliases} from the JSON files of the "aliases" directory.
+ *
+ * "aliases/index.json" lists, for every {@link Aliases.AliasType}, the files holding its aliases,
+ * e.g. "ITEMS": ["items.json", "items_v8.json"]. Each file maps a canonical name, the name the
+ * spoiler log uses, to its aliases: "Progressive Hookshot": ["Progressive Hookshot", "hookshot"].
+ * The files of a type are merged in the order listed, so a file for a newer randomizer version
+ * can add names, or add aliases to names an earlier file already has, which keep their place.
+ *
+ * The files are read from the classpath, where the build copies the "aliases" directory. If the
+ * {@link #DIR_PROPERTY} system property names a directory, a file of the same name in it is merged
+ * after each listed file, so aliases can be added without rebuilding.
+ *
+ * If the {@link #CACHE_PROPERTY} system property names a file, the merged tables are also written
+ * there in binary form, along with a checksum of every JSON file they came from. Later loads
+ * read the cache instead of parsing the JSON as long as that checksum still matches.
+ */
+public final class AliasTables {
+
+    public static final String DIR_PROPERTY = "aliases.dir";
+    public static final String CACHE_PROPERTY = "aliases.cache";
+
+    private static final String RESOURCE_DIR = "aliases/";
+    private static final String INDEX = "index.json";
+
+    private static final int CACHE_MAGIC = 0x4F4F5441; /* "OOTA" */
+    private static final int CACHE_VERSION = 1;
+
+
+    private AliasTables() {
+    }
+
+
+    /**
+     * Loads every alias table, from the binary cache when there is an up to date one.
+     *
+     * @return alias groups of every type, canonical name first in each group
+     * @throws IllegalStateException if a listed file is missing
+     * @throws IllegalArgumentException if a file is not in the expected form
+     */
+    public static Map<Aliases.AliasType, String[][]> load() {
+        String dirName = System.getProperty(DIR_PROPERTY);
+        String cacheName = System.getProperty(CACHE_PROPERTY);
+        Path dir = (dirName == null) ? null : Paths.get(dirName);
+        Path cache = (cacheName == null) ? null : Paths.get(cacheName);
+
+        Map<String, byte[]> sources = readSources(dir);
+        long checksum = checksum(sources);
+
+        if (cache != null) {
+            Map<Aliases.AliasType, String[][]> cached = readCache(cache, checksum);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Map<Aliases.AliasType, String[][]> tables = parse(sources, dir);
+        if (cache != null) {
+            try {
+                writeCache(cache, checksum, tables);
+            }
+            catch (IOException e) {
+                /* Only slower next time */
+            }
+        }
+        return tables;
+    }
+
+
+    /**
+     * Reads the index and every file it lists, keyed by the name they are listed under,
+     * followed by the override of each file from dir when there is one, keyed by its path.
+     */
+    private static Map<String, byte[]> readSources(Path dir) {
+        Map<String, byte[]> sources = new LinkedHashMap<>();
+        byte[] index = readResource(INDEX);
+        sources.put(INDEX, index);
+        for (List<String> files : parseIndex(index).values()) {
+            for (String file : files) {
+                if (sources.containsKey(file)) {
+                    continue;
+                }
+                sources.put(file, readResource(file));
+                Path override = (dir == null) ? null : dir.resolve(file);
+                if (override != null && Files.isRegularFile(override)) {
+                    try {
+                        sources.put(override.toString(), Files.readAllBytes(override));
+                    }
+                    catch (IOException e) {
+                        throw new IllegalArgumentException("Could not read " + override + ": " + e);
+                    }
+                }
+            }
+        }
+        return sources;
+    }
+
+
+    private static Map<Aliases.AliasType, String[][]> parse(Map<String, byte[]> sources, Path dir) {
+        Map<String, List<String>> index = parseIndex(sources.get(INDEX));
+        Map<Aliases.AliasType, String[][]> tables = new EnumMap<>(Aliases.AliasType.class);
+
+        for (Aliases.AliasType type : Aliases.AliasType.values()) {
+            /* canonical name -> its aliases, canonical name first */
+            Map<String, Set<String>> groups = new LinkedHashMap<>();
+            List<String> files = index.get(type.name());
+            if (files == null) {
+                throw new IllegalArgumentException(INDEX + " lists no files for " + type);
+            }
+            for (String file : files) {
+                merge(groups, file, sources.get(file));
+                String override = (dir == null) ? null : dir.resolve(file).toString();
+                if (override != null && sources.containsKey(override)) {
+                    merge(groups, override, sources.get(override));
+                }
+            }
+
+            String[][] table = new String[groups.size()][];
+            int g = 0;
+            for (Set<String> group : groups.values()) {
+                table[g++] = group.toArray(new String[0]);
+            }
+            tables.put(type, table);
+        }
+        return Collections.unmodifiableMap(tables);
+    }
+
+
+    private static void merge(Map<String, Set<String>> groups, String name, byte[] source) {
+        Object parsed = parseJson(name, source);
+        if (!(parsed instanceof Map)) {
+            throw new IllegalArgumentException(name + " must map canonical names to lists of aliases.");
+        }
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>)parsed).entrySet()) {
+            if (!(entry.getValue() instanceof List)) {
+                throw new IllegalArgumentException(name + ": the aliases of " + entry.getKey() + " must be a list.");
+            }
+            String canonical = String.valueOf(entry.getKey());
+            Set<String> group = groups.computeIfAbsent(canonical, k -> new LinkedHashSet<>());
+            group.add(canonical);
+            for (Object alias : (List<?>)entry.getValue()) {
+                group.add(String.valueOf(alias));
+            }
+        }
+    }
+
+
+    private static Map<String, List<String>> parseIndex(byte[] index) {
+        Object parsed = parseJson(INDEX, index);
+        if (!(parsed instanceof Map)) {
+            throw new IllegalArgumentException(INDEX + " must map alias types to lists of files.");
+        }
+        Map<String, List<String>> files = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>)parsed).entrySet()) {
+            List<String> names = new ArrayList<>();
+            if (entry.getValue() instanceof List) {
+                for (Object name : (List<?>)entry.getValue()) {
+                    names.add(String.valueOf(name));
+                }
+            }
+            files.put(String.valueOf(entry.getKey()), names);
+        }
+        return files;
+    }
+
+
+    /**
+     * Parses JSON keeping the order of every object's entries, which decides the order of the groups.
+     */
+    private static Object parseJson(String name, byte[] source) {
+        try {
+            return new JSONParser().parse(new String(source, StandardCharsets.UTF_8), new ContainerFactory() {
+                @Override
+                public Map<Object, Object> createObjectContainer() {
+                    return new LinkedHashMap<>();
+                }
+
+                @Override
+                public List<Object> creatArrayContainer() {
+                    return new ArrayList<>();
+                }
+            });
+        }
+        catch (ParseException e) {
+            throw new IllegalArgumentException(name + " is not valid JSON: " + e);
+        }
+    }
+
+
+    private static byte[] readResource(String file) {
+        try (InputStream in = AliasTables.class.getClassLoader().getResourceAsStream(RESOURCE_DIR + file)) {
+            if (in == null) {
+                throw new IllegalStateException(RESOURCE_DIR + file + " is missing from the classpath.");
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buf = new byte[1 << 13];
+            for (int n; (n = in.read(buf)) > 0; ) {
+                bytes.write(buf, 0, n);
+            }
+            return bytes.toByteArray();
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Could not read " + RESOURCE_DIR + file + ": " + e);
+        }
+    }
+
+
+    private static long checksum(Map<String, byte[]> sources) {
+        CRC32 crc = new CRC32();
+        for (Map.Entry<String, byte[]> source : sources.entrySet()) {
+            crc.update(source.getKey().getBytes(StandardCharsets.UTF_8));
+            crc.update(source.getValue());
+        }
+        return crc.getValue();
+    }
+
+
+    /**
+     * Cache layout: magic, version, checksum of the sources, then for every type in declaration order
+     * its group count, and for every group its alias count followed by the aliases.
+     *
+     * @return the cached tables, or null if the cache is missing, out of date or damaged
+     */
+    private static Map<Aliases.AliasType, String[][]> readCache(Path cache, long checksum) {
+        if (!Files.isRegularFile(cache)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cache), 1 << 16))) {
+            if (in.readInt() != CACHE_MAGIC || in.readInt() != CACHE_VERSION || in.readLong() != checksum) {
+                return null;
+            }
+            Map<Aliases.AliasType, String[][]> tables = new EnumMap<>(Aliases.AliasType.class);
+            for (Aliases.AliasType type : Aliases.AliasType.values()) {
+                String[][] table = new String[in.readInt()][];
+                for (int g = 0; g < table.length; g++) {
+                    table[g] = new String[in.readInt()];
+                    for (int a = 0; a < table[g].length; a++) {
+                        table[g][a] = in.readUTF();
+                    }
+                }
+                tables.put(type, table);
+            }
+            return Collections.unmodifiableMap(tables);
+        }
+        catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+
+    private static void writeCache(Path cache, long checksum, Map<Aliases.AliasType, String[][]> tables)
+            throws IOException {
+        Path parent = cache.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(parent, cache.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                out.writeInt(CACHE_MAGIC);
+                out.writeInt(CACHE_VERSION);
+                out.writeLong(checksum);
+                for (Aliases.AliasType type : Aliases.AliasType.values()) {
+                    String[][] table = tables.get(type);
+                    out.writeInt(table.length);
+                    for (String[] group : table) {
+                        out.writeInt(group.length);
+                        for (String alias : group) {
+                            out.writeUTF(alias);
+                        }
+                    }
+                }
+            }
+            Files.move(tmp, cache, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
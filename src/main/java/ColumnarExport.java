@@ -0,0 +1,459 @@
+import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.ParseException;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A compact columnar file holding the placements and settings of many spoiler logs, for bulk analysis.
+ *
+ * The file holds two tables, written log by log:
+ * <pre>
+ * locations(seed, world, location, item, player)
+ * settings(seed, key, value)
+ * </pre>
+ * Every string is replaced by its id in a dictionary that the whole file shares. The dictionary
+ * starts out with the canonical names of {@link Aliases}, i.e. the names the logs use for items,
+ * settings and regions, so the most common values have the smallest ids; strings first seen in a
+ * log are added in a dictionary block written just before that log's tables. Logs are read one at
+ * a time, with "locations" streamed rather than parsed into JSONObjects, and written out before the
+ * next one is read, so memory only grows with the dictionary however many logs are exported.
+ *
+ * Layout, big-endian; every number in a block is an unsigned variable-length int (7 bits per byte,
+ * low bits first, high bit set on all but the last byte):
+ * <pre>
+ * magic, format version                          int, int
+ * blocks until the end of the file               byte type, int length, length bytes
+ *   DICTIONARY                                   count, count * (length, UTF-8 bytes)
+ *   LOCATIONS                                    seed, rows, world column, location column, item column, player column
+ *   SETTINGS                                     seed, rows, key column, value column
+ * </pre>
+ * A column is rows numbers in a row; string columns hold dictionary ids.
+ */
+public final class ColumnarExport {
+
+    private static final int MAGIC = 0x4F4F5443; /* "OOTC" */
+    private static final int FORMAT_VERSION = 1;
+
+    /* Block types */
+    private static final byte DICTIONARY = 1;
+    private static final byte LOCATIONS = 2;
+    private static final byte SETTINGS = 3;
+
+
+    /**
+     * Receives the rows of an exported file as it is read.
+     */
+    public interface Rows {
+
+        /**
+         * A row of the locations table.
+         * @param seed the log's :seed
+         * @param world world the location is in
+         * @param location location name
+         * @param item item placed there
+         * @param player player the item is for
+         */
+        void location(String seed, int world, String location, String item, int player);
+
+        /**
+         * A row of the settings table. Values that are not strings are written as JSON text.
+         * @param seed the log's :seed
+         * @param key settings key
+         * @param value its value
+         */
+        void setting(String seed, String key, String value);
+    }
+
+
+    private ColumnarExport() {
+    }
+
+
+    /**
+     * Exports spoiler logs into a columnar file, replacing the file if it exists.
+     * The file is written under a temporary name first, so a reader never sees half of it.
+     *
+     * @param logs spoiler logs to export, in order
+     * @param out path of the columnar file
+     * @return how many location rows were written
+     * @throws IllegalArgumentException if a log has no ":seed", by which its rows are told apart
+     */
+    public static long write(List<Path> logs, Path out) throws IOException, ParseException {
+        Path tmp = Files.createTempFile(out.toAbsolutePath().getParent(), out.getFileName().toString(), ".tmp");
+        long rows = 0;
+        try {
+            try (DataOutputStream file = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                file.writeInt(MAGIC);
+                file.writeInt(FORMAT_VERSION);
+
+                Dictionary dictionary = new Dictionary();
+                for (Aliases.AliasType type : new Aliases.AliasType[] {Aliases.AliasType.ITEMS,
+                        Aliases.AliasType.SETTINGS, Aliases.AliasType.MULTI_EXIT, Aliases.AliasType.SINGLE_EXIT}) {
+                    for (String[] group : Aliases.getAliases(type)) {
+                        dictionary.id(group[0]);
+                    }
+                }
+
+                Block locations = new Block();
+                Block settings = new Block();
+                for (Path log : logs) {
+                    rows += writeLog(log, SpoilerSections.fromFile(log), dictionary, locations, settings);
+                    /* The log's new strings go first, so the reader knows every id of its tables */
+                    dictionary.writeNew(file);
+                    locations.writeTo(file, LOCATIONS);
+                    settings.writeTo(file, SETTINGS);
+                }
+            }
+            Files.move(tmp, out, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(tmp);
+        }
+        return rows;
+    }
+
+
+    /**
+     * Reads every row of a columnar file, log by log.
+     *
+     * @param file path of the columnar file
+     * @param rows receives the rows
+     * @throws IllegalArgumentException if file is not a columnar export, or is damaged
+     */
+    public static void read(Path file, Rows rows) throws IOException {
+        ByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buf.remaining() < 8 || buf.getInt() != MAGIC || buf.getInt() != FORMAT_VERSION) {
+            throw new IllegalArgumentException(file + " is not a columnar export.");
+        }
+
+        List<String> dictionary = new ArrayList<>();
+        try {
+            while (buf.hasRemaining()) {
+                byte type = buf.get();
+                int length = buf.getInt();
+                if (length < 0 || length > buf.remaining()) {
+                    throw new BufferUnderflowException();
+                }
+                int end = buf.position() + length;
+                if (type == DICTIONARY) {
+                    for (int count = readVarInt(buf); count > 0; count--) {
+                        byte[] bytes = new byte[readLength(buf)];
+                        buf.get(bytes);
+                        dictionary.add(new String(bytes, StandardCharsets.UTF_8));
+                    }
+                }
+                else if (type == LOCATIONS) {
+                    String seed = string(file, dictionary, readVarInt(buf));
+                    int[][] columns = readColumns(buf, 4);
+                    for (int r = 0; r < columns[0].length; r++) {
+                        rows.location(seed, columns[0][r], string(file, dictionary, columns[1][r]),
+                                string(file, dictionary, columns[2][r]), columns[3][r]);
+                    }
+                }
+                else if (type == SETTINGS) {
+                    String seed = string(file, dictionary, readVarInt(buf));
+                    int[][] columns = readColumns(buf, 2);
+                    for (int r = 0; r < columns[0].length; r++) {
+                        rows.setting(seed, string(file, dictionary, columns[0][r]),
+                                string(file, dictionary, columns[1][r]));
+                    }
+                }
+                else {
+                    /* A table added by a later version */
+                    ((Buffer)buf).position(end);
+                }
+                if (buf.position() != end) {
+                    throw new IllegalArgumentException(file + " is damaged.");
+                }
+            }
+        }
+        catch (BufferUnderflowException e) {
+            /* A block, or a length inside it, runs past the end of the file */
+            throw new IllegalArgumentException(file + " is damaged.", e);
+        }
+    }
+
+
+    /**
+     * Fills the locations and settings blocks with the rows of one log.
+     * @return how many location rows the log has
+     */
+    private static int writeLog(Path log, SpoilerSections sections, Dictionary dictionary,
+                                Block locations, Block settings) throws IOException, ParseException {
+        Object seedValue = sections.parse(":seed");
+        if (!(seedValue instanceof String)) {
+            throw new IllegalArgumentException(log + " has no :seed, so it cannot be exported.");
+        }
+        int seed = dictionary.id((String)seedValue);
+
+        LocationRows handler = new LocationRows(dictionary);
+        sections.stream("locations", handler);
+        locations.start(seed, handler.worlds.size());
+        locations.column(handler.worlds);
+        locations.column(handler.locations);
+        locations.column(handler.items);
+        locations.column(handler.players);
+
+        Object settingsValue = sections.parse("settings");
+        List<Integer> keys = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        if (settingsValue instanceof JSONObject) {
+            for (Object entryObj : ((JSONObject)settingsValue).entrySet()) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>)entryObj;
+                Object value = entry.getValue();
+                keys.add(dictionary.id(String.valueOf(entry.getKey())));
+                values.add(dictionary.id((value instanceof String) ? (String)value : JSONValue.toJSONString(value)));
+            }
+        }
+        settings.start(seed, keys.size());
+        settings.column(keys);
+        settings.column(values);
+
+        return handler.worlds.size();
+    }
+
+
+    private static int[][] readColumns(ByteBuffer buf, int count) {
+        int rows = readLength(buf);
+        int[][] columns = new int[count][rows];
+        for (int[] column : columns) {
+            for (int r = 0; r < rows; r++) {
+                column[r] = readVarInt(buf);
+            }
+        }
+        return columns;
+    }
+
+
+    /**
+     * Reads a count of bytes or of numbers that follow, each of which takes at least a byte.
+     * @throws BufferUnderflowException if fewer bytes than that are left
+     */
+    private static int readLength(ByteBuffer buf) {
+        int length = readVarInt(buf);
+        if (length < 0 || length > buf.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+
+    private static String string(Path file, List<String> dictionary, int id) {
+        if (id < 0 || id >= dictionary.size()) {
+            throw new IllegalArgumentException(file + " is damaged.");
+        }
+        return dictionary.get(id);
+    }
+
+
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+
+    private static int readVarInt(ByteBuffer buf) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buf.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+
+    /**
+     * The strings of the file, each with its id. Strings added since the last dictionary block
+     * are written out in the next one.
+     */
+    private static class Dictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> added = new ArrayList<>();
+
+        int id(String s) {
+            Integer id = ids.get(s);
+            if (id == null) {
+                id = ids.size();
+                ids.put(s, id);
+                added.add(s);
+            }
+            return id;
+        }
+
+        void writeNew(DataOutputStream out) throws IOException {
+            if (added.isEmpty()) {
+                return;
+            }
+            ByteArrayOutputStream block = new ByteArrayOutputStream();
+            writeVarInt(block, added.size());
+            for (String s : added) {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(block, bytes.length);
+                block.write(bytes);
+            }
+            out.writeByte(DICTIONARY);
+            out.writeInt(block.size());
+            block.writeTo(out);
+            added.clear();
+        }
+    }
+
+
+    /**
+     * The table rows of the log being exported, reused from log to log.
+     */
+    private static class Block {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 14);
+
+        void start(int seed, int rows) throws IOException {
+            bytes.reset();
+            writeVarInt(bytes, seed);
+            writeVarInt(bytes, rows);
+        }
+
+        void column(List<Integer> values) throws IOException {
+            for (int value : values) {
+                writeVarInt(bytes, value);
+            }
+        }
+
+        void writeTo(DataOutputStream out, byte type) throws IOException {
+            out.writeByte(type);
+            out.writeInt(bytes.size());
+            bytes.writeTo(out);
+        }
+    }
+
+
+    /**
+     * Streams "locations" into columns. A placement is either "Location": "Item" or
+     * "Location": {"item": "Item", "player": n}, directly in the section for a single world log
+     * or under "World n" for a multiworld log.
+     */
+    private static class LocationRows implements ContentHandler {
+        private final Dictionary dictionary;
+        private final List<Integer> worlds = new ArrayList<>();
+        private final List<Integer> locations = new ArrayList<>();
+        private final List<Integer> items = new ArrayList<>();
+        private final List<Integer> players = new ArrayList<>();
+
+        private final List<String> keys = new ArrayList<>(); /* keys of the entries being read, outermost first */
+        private int world = 1;
+        private int locationDepth = 1; /* depth of location keys: 1, or 2 under "World n" */
+        private String item;
+        private int player;
+
+        LocationRows(Dictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            keys.add(key);
+            if (keys.size() == 1 && key.startsWith("World ")) {
+                try {
+                    world = Integer.parseInt(key.substring("World ".length()).trim());
+                    locationDepth = 2;
+                }
+                catch (NumberFormatException e) {
+                    /* A location that happens to start with "World " */
+                }
+            }
+            if (keys.size() == locationDepth) {
+                item = null;
+                player = world;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            if (keys.size() == locationDepth && value instanceof String) {
+                item = (String)value;
+            }
+            else if (keys.size() == locationDepth + 1) {
+                String key = keys.get(locationDepth);
+                if (key.equals("item") && value instanceof String) {
+                    item = (String)value;
+                }
+                else if (key.equals("player") && value instanceof Long) {
+                    player = (int)(long)(Long)value;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            if (keys.size() == locationDepth && item != null) {
+                worlds.add(world);
+                locations.add(dictionary.id(keys.get(locationDepth - 1)));
+                items.add(dictionary.id(item));
+                players.add(player);
+            }
+            if (keys.size() == 1) {
+                locationDepth = 1;
+                world = 1;
+            }
+            keys.remove(keys.size() - 1);
+            return true;
+        }
+
+        @Override
+        public void startJSON() {
+        }
+
+        @Override
+        public void endJSON() {
+        }
+
+        @Override
+        public boolean startObject() {
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            return true;
+        }
+    }
+}
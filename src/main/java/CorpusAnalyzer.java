@@ -0,0 +1,310 @@
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * Aggregate statistics over a directory of spoiler logs.
+ *
+ * Counts which dungeon an item was placed in, and how often each region was barren, over every log
+ * whose settings match a set of filters. Logs are processed in parallel on a fork-join pool of their
+ * own, each one memory-mapped through {@link SpoilerSections} and only the sections a statistic needs
+ * are read: "settings" when there are filters, ":barren_regions", and "locations", which is streamed
+ * through a json-simple ContentHandler instead of being built into JSONObjects. Every worker counts
+ * into primitive arrays of its own, which are added together at the end. A log that cannot be read is
+ * counted as skipped and adds nothing to the statistics.
+ */
+public class CorpusAnalyzer {
+
+    /* Dungeons as named at the start of their location names, in the order of the "dungeons" section */
+    public static final String[] DUNGEONS = {"Deku Tree", "Dodongos Cavern", "Jabu Jabus Belly", "Bottom of the Well",
+            "Ice Cavern", "Gerudo Training Ground", "Forest Temple", "Fire Temple", "Water Temple", "Spirit Temple",
+            "Shadow Temple", "Ganons Castle"};
+
+    private static final String OUTSIDE_DUNGEONS = "Outside dungeons";
+
+    private final String itemKey; /* item counted, as an ItemLocationIndex key */
+    private final String itemName;
+    private final Map<String, String> filters; /* settings key -> required value */
+
+
+    /**
+     * @param item item whose placements are counted, by name or alias
+     * @param settingFilters settings a log must have to be counted, e.g. "shuffle_dungeon_entrances" to "off";
+     *                       keys may be aliases and values are compared ignoring case
+     */
+    public CorpusAnalyzer(String item, Map<String, String> settingFilters) {
+        this.itemKey = ItemLocationIndex.itemKey(item);
+        String canonical = AliasIndex.canonical(Aliases.AliasType.ITEMS, item);
+        this.itemName = (canonical == null) ? item : canonical;
+        this.filters = new LinkedHashMap<>();
+        for (Map.Entry<String, String> filter : settingFilters.entrySet()) {
+            String key = AliasIndex.canonical(Aliases.AliasType.SETTINGS, filter.getKey());
+            filters.put((key == null) ? filter.getKey() : key, filter.getValue());
+        }
+    }
+
+
+    /**
+     * Analyzes every .json file directly inside a directory.
+     *
+     * @param dir directory of spoiler logs
+     * @param threads how many logs to read at the same time
+     * @return the statistics, with how long they took
+     */
+    public JSONObject analyze(Path dir, int threads) throws IOException {
+        List<Path> logs = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.json")) {
+            for (Path file : files) {
+                logs.add(file);
+            }
+        }
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        Tally total;
+        try {
+            /* A parallel stream started from inside the pool runs on the pool's threads */
+            total = pool.submit(() -> logs.parallelStream().collect(Tally::new, Tally::add, Tally::merge)).get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        return total.report(seconds, threads);
+    }
+
+
+    /**
+     * @param location location name, e.g. "Shadow Temple Freestanding Key"
+     * @return index into {@link #DUNGEONS} of the dungeon the location is in, or DUNGEONS.length if none
+     */
+    public static int dungeonOf(String location) {
+        for (int d = 0; d < DUNGEONS.length; d++) {
+            if (location.startsWith(DUNGEONS[d])) {
+                return d;
+            }
+        }
+        return DUNGEONS.length;
+    }
+
+
+    /**
+     * Counters of one worker.
+     */
+    private class Tally {
+        private long logs;
+        private long matched;
+        private long worlds;
+        private long skipped;
+        private final long[] itemInDungeon = new long[DUNGEONS.length + 1];
+        private final Map<String, long[]> barren = new HashMap<>(); /* region -> worlds it was barren in */
+        private final Map<String, Boolean> isItem; /* item name -> whether it is the counted item */
+
+        Tally() {
+            this(new HashMap<>());
+        }
+
+        private Tally(Map<String, Boolean> isItem) {
+            this.isItem = isItem;
+        }
+
+        void add(Path log) {
+            /* Counted apart and only added once the whole log has been read, so a damaged log adds nothing */
+            Tally counts = new Tally(isItem);
+            try {
+                SpoilerSections sections = SpoilerSections.fromFile(log);
+                if (counts.matches(sections)) {
+                    counts.matched++;
+                    sections.stream("locations", counts.new LocationHandler());
+                    counts.countBarren(sections.parse(":barren_regions"));
+                }
+            }
+            catch (IOException | ParseException e) {
+                logs++;
+                skipped++;
+                return;
+            }
+            counts.logs++;
+            merge(counts);
+        }
+
+        void merge(Tally other) {
+            logs += other.logs;
+            matched += other.matched;
+            worlds += other.worlds;
+            skipped += other.skipped;
+            for (int d = 0; d < itemInDungeon.length; d++) {
+                itemInDungeon[d] += other.itemInDungeon[d];
+            }
+            for (Map.Entry<String, long[]> entry : other.barren.entrySet()) {
+                barren.computeIfAbsent(entry.getKey(), k -> new long[1])[0] += entry.getValue()[0];
+            }
+        }
+
+        private boolean matches(SpoilerSections sections) throws ParseException {
+            if (filters.isEmpty()) {
+                return true;
+            }
+            Object settings = sections.parse("settings");
+            if (!(settings instanceof JSONObject)) {
+                return false;
+            }
+            for (Map.Entry<String, String> filter : filters.entrySet()) {
+                if (!String.valueOf(((JSONObject)settings).get(filter.getKey())).equalsIgnoreCase(filter.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void countBarren(Object barrenRegions) {
+            /* Multiworld logs key the lists by world, single world logs hold one list */
+            Iterable<?> lists;
+            if (barrenRegions instanceof JSONObject) {
+                lists = ((JSONObject)barrenRegions).values();
+            }
+            else if (barrenRegions instanceof JSONArray) {
+                lists = Collections.singletonList(barrenRegions);
+            }
+            else {
+                return;
+            }
+            for (Object list : lists) {
+                if (!(list instanceof JSONArray)) {
+                    continue;
+                }
+                worlds++;
+                for (Object region : (JSONArray)list) {
+                    barren.computeIfAbsent(String.valueOf(region), k -> new long[1])[0]++;
+                }
+            }
+        }
+
+        private void countItem(String location, String item) {
+            Boolean counted = isItem.get(item);
+            if (counted == null) {
+                counted = ItemLocationIndex.itemKey(item).equals(itemKey);
+                isItem.put(item, counted);
+            }
+            if (counted) {
+                itemInDungeon[dungeonOf(location)]++;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        JSONObject report(double seconds, int threads) {
+            JSONObject dungeons = new JSONObject();
+            for (int d = 0; d < itemInDungeon.length; d++) {
+                dungeons.put((d < DUNGEONS.length) ? DUNGEONS[d] : OUTSIDE_DUNGEONS, itemInDungeon[d]);
+            }
+            JSONObject barrenCounts = new JSONObject();
+            for (Map.Entry<String, long[]> entry : barren.entrySet()) {
+                barrenCounts.put(entry.getKey(), entry.getValue()[0]);
+            }
+
+            JSONObject report = new JSONObject();
+            report.put("logs", logs);
+            report.put("matched", matched);
+            report.put("skipped", skipped);
+            report.put("filters", new JSONObject(filters));
+            report.put("item", itemName);
+            report.put("item_in_dungeon", dungeons);
+            report.put("worlds", worlds);
+            report.put("barren_regions", barrenCounts);
+            report.put("seconds", seconds);
+            report.put("threads", (long)threads);
+            report.put("logs_per_second_per_core", (seconds == 0) ? 0.0 : logs / seconds / threads);
+            return report;
+        }
+
+
+        /**
+         * Streams "locations" and counts the placements of the item. A placement is either
+         * "Location": "Item" or "Location": {"item": "Item", "player": n}, directly in the section for
+         * a single world log or under "World n" for a multiworld log.
+         */
+        private class LocationHandler implements ContentHandler {
+            private final List<String> keys = new ArrayList<>(); /* keys of the entries being read, outermost first */
+
+            @Override
+            public boolean primitive(Object value) {
+                int depth = keys.size();
+                if (!(value instanceof String) || depth == 0) {
+                    return true;
+                }
+
+                String key = keys.get(depth - 1);
+                if (key.equals("item") && depth >= 2) {
+                    countItem(keys.get(depth - 2), (String)value);
+                }
+                else if (depth == 1 || (depth == 2 && keys.get(0).startsWith("World "))) {
+                    countItem(key, (String)value);
+                }
+                return true;
+            }
+
+            @Override
+            public boolean startObjectEntry(String key) {
+                keys.add(key);
+                return true;
+            }
+
+            @Override
+            public boolean endObjectEntry() {
+                keys.remove(keys.size() - 1);
+                return true;
+            }
+
+            @Override
+            public void startJSON() {
+            }
+
+            @Override
+            public void endJSON() {
+            }
+
+            @Override
+            public boolean startObject() {
+                return true;
+            }
+
+            @Override
+            public boolean endObject() {
+                return true;
+            }
+
+            @Override
+            public boolean startArray() {
+                return true;
+            }
+
+            @Override
+            public boolean endArray() {
+                return true;
+            }
+        }
+    }
+}
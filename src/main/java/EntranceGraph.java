@@ -0,0 +1,297 @@
+import org.json.simple.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * The shuffled entrances of one world as a directed graph between regions.
+ *
+ * Every entry "A -> B": {"region": R, "from": F} of the "entrances" section means that taking the
+ * exit of region A that used to lead to B now arrives in R, which is an edge A -> R. Unless the
+ * log's entrances are decoupled, going back through R's exit towards F then arrives in A, an edge
+ * R -> A; spawns, warp songs, owls and other one-way entrances have no way back.
+ *
+ * Regions are interned into ids by their exact name in the log, and edges are held as adjacency
+ * arrays. The {@link Aliases.AliasType#MULTI_EXIT} and {@link Aliases.AliasType#SINGLE_EXIT} aliases
+ * only resolve the regions asked for, so "kf" finds "Kokiri Forest"; they are not used to intern,
+ * as some alias groups name several regions of the log, e.g. "Lost Woods" and "LW Underwater
+ * Entrance". Routes are found by breadth-first search, which gives the route through the fewest
+ * entrances. The search tree of a start region is kept once computed, so repeated routes from the
+ * same region only walk back through it.
+ *
+ * Only shuffled entrances are in the log, so a route can only use those.
+ */
+public final class EntranceGraph {
+
+    /* Endings of entrance sources that are taken one way only */
+    private static final String[] ONE_WAY = {" Spawn", " Warp", " Owl Flight", " Lower Stream"};
+
+    private final String[] regions; /* region id -> region name */
+    private final Map<String, Integer> regionIds; /* normalized region name -> region id */
+
+    private final int[] edgeStart; /* region id -> first edge; one extra end slot */
+    private final int[] edgeSource; /* edge -> region id it leaves */
+    private final int[] edgeTarget; /* edge -> region id it arrives in */
+    private final String[] edgeEntrance; /* edge -> entrance taken, e.g. "KF Outside Deku Tree -> Deku Tree Lobby" */
+
+    private final int[][] searchTrees; /* start region id -> edge used to reach each region, -1 if unreachable */
+
+
+    private EntranceGraph(String[] regions, Map<String, Integer> regionIds,
+                          int[] edgeStart, int[] edgeSource, int[] edgeTarget, String[] edgeEntrance) {
+        this.regions = regions;
+        this.regionIds = regionIds;
+        this.edgeStart = edgeStart;
+        this.edgeSource = edgeSource;
+        this.edgeTarget = edgeTarget;
+        this.edgeEntrance = edgeEntrance;
+        this.searchTrees = new int[regions.length][];
+    }
+
+
+    /**
+     * Builds the graph of one world.
+     * An entrance's value may be just the region it arrives in, or an object with "region" and "from".
+     *
+     * @param entrances the entrances of the world, keyed "A -> B"; null if the log has none
+     * @param decoupled true if the log's entrances are decoupled, so no entrance leads back
+     * @return the entrance graph
+     */
+    public static EntranceGraph build(JSONObject entrances, boolean decoupled) {
+        Map<String, Integer> regionIds = new HashMap<>();
+        List<String> regions = new ArrayList<>();
+        List<int[]> edges = new ArrayList<>(); /* {from region, to region} */
+        List<String> edgeNames = new ArrayList<>();
+
+        if (entrances != null) {
+            for (Object entryObj : entrances.entrySet()) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>)entryObj;
+                String entrance = (String)entry.getKey();
+                int arrow = entrance.indexOf(" -> ");
+                if (arrow < 0) {
+                    continue;
+                }
+                String source = entrance.substring(0, arrow);
+
+                String target;
+                String from = null;
+                if (entry.getValue() instanceof JSONObject) {
+                    JSONObject value = (JSONObject)entry.getValue();
+                    target = String.valueOf(value.get("region"));
+                    from = (value.get("from") == null) ? null : String.valueOf(value.get("from"));
+                }
+                else {
+                    target = String.valueOf(entry.getValue());
+                }
+
+                int a = intern(source, regionIds, regions);
+                int r = intern(target, regionIds, regions);
+                edges.add(new int[] {a, r});
+                edgeNames.add(entrance);
+                if (from != null && !decoupled && !isOneWay(source)) {
+                    edges.add(new int[] {r, a});
+                    edgeNames.add(target + " -> " + from);
+                }
+            }
+        }
+
+        /* Bucket the edges by the region they leave */
+        int[] edgeStart = new int[regions.size() + 1];
+        for (int[] edge : edges) {
+            edgeStart[edge[0] + 1]++;
+        }
+        for (int i = 1; i < edgeStart.length; i++) {
+            edgeStart[i] += edgeStart[i - 1];
+        }
+        int[] edgeSource = new int[edges.size()];
+        int[] edgeTarget = new int[edges.size()];
+        String[] edgeEntrance = new String[edges.size()];
+        int[] next = Arrays.copyOf(edgeStart, regions.size());
+        for (int i = 0; i < edges.size(); i++) {
+            int e = next[edges.get(i)[0]]++;
+            edgeSource[e] = edges.get(i)[0];
+            edgeTarget[e] = edges.get(i)[1];
+            edgeEntrance[e] = edgeNames.get(i);
+        }
+
+        return new EntranceGraph(regions.toArray(new String[0]), Collections.unmodifiableMap(regionIds),
+                edgeStart, edgeSource, edgeTarget, edgeEntrance);
+    }
+
+
+    /**
+     * Key under which a region is interned: its name as in the log, normalized.
+     * @param region region name
+     * @return normalized name of the region
+     */
+    public static String regionKey(String region) {
+        return AliasIndex.normalize(region);
+    }
+
+
+    /**
+     * Resolves a region asked for to a region of the graph. A name of the log is taken as is;
+     * otherwise its alias group is looked up and the first name of the group found in the graph is used.
+     *
+     * @param region region name or alias
+     * @return the region's name as in the log, or null if no shuffled entrance leaves or arrives in it
+     */
+    public String regionName(String region) {
+        Integer id = regionId(region);
+        return (id == null) ? null : regions[id];
+    }
+
+
+    /**
+     * @return how many regions the graph connects
+     */
+    public int regionCount() {
+        return regions.length;
+    }
+
+
+    /**
+     * @param region region name or alias
+     * @return true if any shuffled entrance leaves or arrives in the region
+     */
+    public boolean contains(String region) {
+        return regionId(region) != null;
+    }
+
+
+    /**
+     * Finds the route through the fewest entrances between two regions.
+     *
+     * @param from region name or alias to start in
+     * @param to region name or alias to arrive in
+     * @return the entrances to take in order, each as {entrance, region arrived in}; empty if from and
+     *         to are the same region, null if to cannot be reached from from
+     * @throws IllegalArgumentException if either region has no shuffled entrance
+     */
+    public List<String[]> route(String from, String to) {
+        Integer startId = regionId(from);
+        Integer endId = regionId(to);
+        if (startId == null) {
+            throw new IllegalArgumentException(from + " has no shuffled entrances.");
+        }
+        if (endId == null) {
+            throw new IllegalArgumentException(to + " has no shuffled entrances.");
+        }
+
+        int start = startId;
+        int end = endId;
+        int[] tree = searchTree(start);
+        if (end != start && tree[end] < 0) {
+            return null;
+        }
+
+        List<String[]> route = new ArrayList<>();
+        for (int region = end; region != start; ) {
+            int edge = tree[region];
+            route.add(new String[] {edgeEntrance[edge], regions[region]});
+            region = edgeSource[edge];
+        }
+        Collections.reverse(route);
+        return route;
+    }
+
+
+    /**
+     * Returns the breadth-first search tree from a region, searching it the first time.
+     */
+    private int[] searchTree(int start) {
+        synchronized (searchTrees) {
+            if (searchTrees[start] != null) {
+                return searchTrees[start];
+            }
+        }
+
+        int[] reachedBy = new int[regions.length];
+        Arrays.fill(reachedBy, -1);
+        boolean[] seen = new boolean[regions.length];
+        int[] queue = new int[regions.length];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        seen[start] = true;
+        while (head < tail) {
+            int region = queue[head++];
+            for (int e = edgeStart[region]; e < edgeStart[region + 1]; e++) {
+                int target = edgeTarget[e];
+                if (!seen[target]) {
+                    seen[target] = true;
+                    reachedBy[target] = e;
+                    queue[tail++] = target;
+                }
+            }
+        }
+
+        synchronized (searchTrees) {
+            searchTrees[start] = reachedBy;
+        }
+        return reachedBy;
+    }
+
+
+    /**
+     * Resolves a region asked for to the key of one of a set of regions, the way {@link #regionName} does.
+     *
+     * @param region region name or alias
+     * @param regions regions to choose from, keyed by {@link #regionKey}
+     * @return key of the region in regions, or null if there is none
+     */
+    static String findRegionKey(String region, Map<String, ?> regions) {
+        String key = regionKey(region);
+        if (regions.containsKey(key)) {
+            return key;
+        }
+        AliasIndex.Entry entry = AliasIndex.resolve(Aliases.AliasType.MULTI_EXIT, region);
+        if (entry == null) {
+            entry = AliasIndex.resolve(Aliases.AliasType.SINGLE_EXIT, region);
+        }
+        if (entry == null) {
+            return null;
+        }
+        /* Canonical name first */
+        for (String alias : entry.aliases()) {
+            key = regionKey(alias);
+            if (regions.containsKey(key)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+
+    private Integer regionId(String region) {
+        String key = findRegionKey(region, regionIds);
+        return (key == null) ? null : regionIds.get(key);
+    }
+
+
+    private static int intern(String region, Map<String, Integer> regionIds, List<String> regions) {
+        String key = regionKey(region);
+        Integer id = regionIds.get(key);
+        if (id == null) {
+            id = regions.size();
+            regionIds.put(key, id);
+            regions.add(region);
+        }
+        return id;
+    }
+
+
+    private static boolean isOneWay(String source) {
+        for (String ending : ONE_WAY) {
+            if (source.endsWith(ending)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,302 @@
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Inverted index over the gossip stone hints of every world.
+ *
+ * Each stone's text, hinted locations, hinted items and name are split into words, normalized like
+ * {@link AliasIndex#normalize}, and every word maps to the sorted list of stones containing it.
+ * Hinted items are also indexed under their canonical item name, so "hookshot" finds a stone hinting
+ * "Progressive Hookshot" even if its text only names the area.
+ *
+ * A search for a phrase intersects the lists of its words and keeps the stones that contain the
+ * phrase itself. A phrase that is an item or region alias also searches for the canonical name.
+ */
+public final class HintIndex {
+
+    private final int[] worlds; /* stone -> world */
+    private final String[] names; /* stone -> name, e.g. "DMT (Biggoron)" */
+    private final JSONObject[] hints; /* stone -> hint as in the log */
+    private final String[] searchText; /* stone -> all its indexed words, normalized and joined */
+
+    private final Map<String, int[]> byWord; /* normalized word -> stones, ascending */
+    private final Map<String, int[]> byItem; /* item key -> stones hinting the item, ascending */
+
+
+    private HintIndex(int[] worlds, String[] names, JSONObject[] hints, String[] searchText,
+                      Map<String, int[]> byWord, Map<String, int[]> byItem) {
+        this.worlds = worlds;
+        this.names = names;
+        this.hints = hints;
+        this.searchText = searchText;
+        this.byWord = byWord;
+        this.byItem = byItem;
+    }
+
+
+    /**
+     * Builds the index of the "gossip_stones" section.
+     * Worlds are split into words in parallel on the {@link IndexBuilder} pool.
+     *
+     * @param gossipStones the "gossip_stones" section, or null if the log has none
+     * @param worldCount how many worlds the log represents
+     * @return index of every stone
+     */
+    public static HintIndex build(JSONObject gossipStones, int worldCount) {
+        int worldTotal = Math.max(worldCount, 1);
+        List<List<Stone>> perWorld = IndexBuilder.perWorld(worldTotal, world -> {
+            JSONObject stones = (gossipStones == null || worldTotal == 1)
+                    ? gossipStones : (JSONObject)gossipStones.get("World " + world);
+            List<Stone> indexed = new ArrayList<>();
+            if (stones == null) {
+                return indexed;
+            }
+            for (Object entryObj : stones.entrySet()) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>)entryObj;
+                if (entry.getValue() instanceof JSONObject) {
+                    indexed.add(new Stone(world, (String)entry.getKey(), (JSONObject)entry.getValue()));
+                }
+            }
+            return indexed;
+        });
+
+        int size = 0;
+        for (List<Stone> world : perWorld) {
+            size += world.size();
+        }
+        int[] worlds = new int[size];
+        String[] names = new String[size];
+        JSONObject[] hints = new JSONObject[size];
+        String[] searchText = new String[size];
+        Map<String, List<Integer>> wordLists = new HashMap<>();
+        Map<String, List<Integer>> itemLists = new HashMap<>();
+
+        int stone = 0;
+        for (List<Stone> world : perWorld) {
+            for (Stone indexed : world) {
+                worlds[stone] = indexed.world;
+                names[stone] = indexed.name;
+                hints[stone] = indexed.hint;
+                searchText[stone] = indexed.searchText;
+                for (String word : indexed.words) {
+                    wordLists.computeIfAbsent(word, k -> new ArrayList<>()).add(stone);
+                }
+                for (String item : indexed.items) {
+                    itemLists.computeIfAbsent(item, k -> new ArrayList<>()).add(stone);
+                }
+                stone++;
+            }
+        }
+
+        return new HintIndex(worlds, names, hints, searchText, toArrays(wordLists), toArrays(itemLists));
+    }
+
+
+    /**
+     * @return how many stones the index holds
+     */
+    public int size() {
+        return names.length;
+    }
+
+
+    /**
+     * Finds the stones whose hint mentions a phrase.
+     *
+     * @param phrase words, item or location to look for, e.g. "hookshot" or "Shadow Temple"
+     * @param world world to search, or 0 for every world
+     * @return matching stones, ascending
+     */
+    public int[] search(String phrase, int world) {
+        Set<String> phrases = new LinkedHashSet<>();
+        phrases.add(phrase);
+        String item = AliasIndex.canonical(Aliases.AliasType.ITEMS, phrase);
+        if (item != null) {
+            phrases.add(item);
+        }
+        String region = AliasIndex.canonical(Aliases.AliasType.MULTI_EXIT, phrase);
+        if (region == null) {
+            region = AliasIndex.canonical(Aliases.AliasType.SINGLE_EXIT, phrase);
+        }
+        if (region != null) {
+            phrases.add(region);
+        }
+
+        boolean[] found = new boolean[names.length];
+        int[] hinted = byItem.get(ItemLocationIndex.itemKey(phrase));
+        if (hinted != null) {
+            for (int s : hinted) {
+                found[s] = true;
+            }
+        }
+        for (String p : phrases) {
+            for (int s : searchPhrase(p)) {
+                found[s] = true;
+            }
+        }
+
+        int n = 0;
+        int[] stones = new int[names.length];
+        for (int s = 0; s < found.length; s++) {
+            if (found[s] && (world == 0 || worlds[s] == world)) {
+                stones[n++] = s;
+            }
+        }
+        return Arrays.copyOf(stones, n);
+    }
+
+
+    /**
+     * @return world of a stone
+     */
+    public int world(int stone) {
+        return worlds[stone];
+    }
+
+
+    /**
+     * @return name of a stone, e.g. "DMT (Biggoron)"
+     */
+    public String name(int stone) {
+        return names[stone];
+    }
+
+
+    /**
+     * @return hint of a stone as in the log, with "text", "colors", "hinted_locations" and "hinted_items"
+     */
+    public JSONObject hint(int stone) {
+        return hints[stone];
+    }
+
+
+    private int[] searchPhrase(String phrase) {
+        String[] words = words(phrase);
+        if (words.length == 0) {
+            return new int[0];
+        }
+
+        int[] candidates = null;
+        for (String word : words) {
+            int[] stones = byWord.get(word);
+            if (stones == null) {
+                return new int[0];
+            }
+            candidates = (candidates == null) ? stones : intersect(candidates, stones);
+        }
+
+        /* Every word is there; keep the stones where they appear together as the phrase */
+        String joined = " " + String.join(" ", words) + " ";
+        int n = 0;
+        int[] matching = new int[candidates.length];
+        for (int s : candidates) {
+            if (searchText[s].contains(joined)) {
+                matching[n++] = s;
+            }
+        }
+        return Arrays.copyOf(matching, n);
+    }
+
+
+    /**
+     * Splits text into normalized words, dropping the "#" color markers and punctuation.
+     */
+    private static String[] words(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean separator = i == text.length() || Character.isWhitespace(text.charAt(i))
+                    || text.charAt(i) == '#' || text.charAt(i) == '|';
+            if (separator && start >= 0) {
+                String word = AliasIndex.normalize(text.substring(start, i));
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+                start = -1;
+            }
+            else if (!separator && start < 0) {
+                start = i;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] both = new int[Math.min(a.length, b.length)];
+        int n = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] < b[j]) {
+                i++;
+            }
+            else if (a[i] > b[j]) {
+                j++;
+            }
+            else {
+                both[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(both, n);
+    }
+
+
+    private static Map<String, int[]> toArrays(Map<String, List<Integer>> lists) {
+        Map<String, int[]> arrays = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : lists.entrySet()) {
+            int[] stones = new int[entry.getValue().size()];
+            for (int i = 0; i < stones.length; i++) {
+                stones[i] = entry.getValue().get(i);
+            }
+            arrays.put(entry.getKey(), stones);
+        }
+        return Collections.unmodifiableMap(arrays);
+    }
+
+
+    /**
+     * The words and hinted items of one stone, split on the thread of its world.
+     */
+    private static class Stone {
+        private final int world;
+        private final String name;
+        private final JSONObject hint;
+        private final String searchText; /* every word, normalized, each surrounded by spaces */
+        private final Set<String> words = new LinkedHashSet<>();
+        private final Set<String> items = new LinkedHashSet<>();
+
+        Stone(int world, String name, JSONObject hint) {
+            this.world = world;
+            this.name = name;
+            this.hint = hint;
+
+            StringBuilder text = new StringBuilder();
+            text.append(hint.get("text")).append(" | ").append(name);
+            for (String field : new String[] {"hinted_locations", "hinted_items"}) {
+                if (hint.get(field) instanceof JSONArray) {
+                    for (Object value : (JSONArray)hint.get(field)) {
+                        text.append(" | ").append(value);
+                        if (field.equals("hinted_items")) {
+                            items.add(ItemLocationIndex.itemKey(String.valueOf(value)));
+                        }
+                    }
+                }
+            }
+
+            String[] split = words(text.toString());
+            words.addAll(Arrays.asList(split));
+            searchText = " " + String.join(" ", split) + " ";
+        }
+    }
+}
@@ -0,0 +1,131 @@
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+
+/**
+ * Runs per-world work on a shared fork-join pool.
+ *
+ * Every per-world section of a multiworld spoiler log is keyed by "World N" and the worlds do not
+ * depend on each other, so the indexes derived from them (placement tables, item lookups, hints,
+ * entrances) are built one task per world. How many worlds are processed at once is configurable
+ * with {@link #setParallelism(int)} and defaults to the number of available processors.
+ */
+public final class IndexBuilder {
+
+    private static ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /* Pool -> perWorld calls using it, guarded by IndexBuilder.class */
+    private static final Map<ForkJoinPool, Integer> users = new IdentityHashMap<>();
+
+
+    private IndexBuilder() {
+    }
+
+
+    /**
+     * Sets how many worlds are indexed at the same time.
+     * Work already running keeps the pool it started on, which is shut down once that work is done.
+     *
+     * @param parallelism number of worker threads, at least 1
+     */
+    public static synchronized void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, was " + parallelism);
+        }
+        if (parallelism != pool.getParallelism()) {
+            ForkJoinPool old = pool;
+            pool = new ForkJoinPool(parallelism);
+            if (!users.containsKey(old)) {
+                old.shutdown();
+            }
+        }
+    }
+
+
+    /**
+     * @return how many worlds are indexed at the same time
+     */
+    public static synchronized int getParallelism() {
+        return pool.getParallelism();
+    }
+
+
+    /**
+     * Runs a task for every world and collects the results.
+     * A single world, or a parallelism of 1, runs on the calling thread.
+     *
+     * @param worldCount how many worlds there are; none if less than 1
+     * @param task work for one world, given the world number starting at 1
+     * @return the result of each world, element 0 holding world 1
+     */
+    public static <T> List<T> perWorld(int worldCount, IntFunction<T> task) {
+        List<T> results = new ArrayList<>(Math.max(worldCount, 0));
+        ForkJoinPool current;
+        boolean inline;
+        synchronized (IndexBuilder.class) {
+            current = pool;
+            inline = worldCount <= 1 || current.getParallelism() == 1;
+            if (!inline) {
+                users.merge(current, 1, Integer::sum);
+            }
+        }
+
+        if (inline) {
+            for (int world = 1; world <= worldCount; world++) {
+                results.add(task.apply(world));
+            }
+            return results;
+        }
+
+        try {
+            return invokeAll(current, worldCount, task, results);
+        }
+        finally {
+            synchronized (IndexBuilder.class) {
+                /* The last call on a pool that was replaced meanwhile shuts it down */
+                if (users.merge(current, -1, Integer::sum) == 0) {
+                    users.remove(current);
+                    if (current != pool) {
+                        current.shutdown();
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Runs the task of every world on a pool, adding the results in world order.
+     */
+    private static <T> List<T> invokeAll(ForkJoinPool current, int worldCount, IntFunction<T> task, List<T> results) {
+        List<Callable<T>> tasks = new ArrayList<>(worldCount);
+        for (int world = 1; world <= worldCount; world++) {
+            final int w = world;
+            tasks.add(() -> task.apply(w));
+        }
+
+        try {
+            for (Future<T> result : current.invokeAll(tasks)) {
+                results.add(result.get());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while indexing worlds", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+}
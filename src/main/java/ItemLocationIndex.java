@@ -0,0 +1,119 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Reverse index from an item to every location it was placed at, across all worlds.
+ *
+ * Items are keyed by their canonical name from {@link Aliases#itemAliases()}, so "hookshot",
+ * "longshot" and "Progressive Hookshot" all find the same placements. Items without aliases
+ * are keyed by their own normalized name. Worlds are bucketed in parallel on the {@link IndexBuilder} pool.
+ */
+public final class ItemLocationIndex {
+
+    private final PlacementTable placements;
+
+    private final Map<String, int[]> byItem; /* item key -> {world, index, world, index, ...} */
+
+
+    private ItemLocationIndex(PlacementTable placements, Map<String, int[]> byItem) {
+        this.placements = placements;
+        this.byItem = byItem;
+    }
+
+
+    /**
+     * Builds the index over every placement of a table.
+     * @param placements placements of a spoiler log
+     * @return the reverse index
+     */
+    public static ItemLocationIndex build(PlacementTable placements) {
+        /* Resolve each distinct item name once, then bucket the placements by key */
+        Map<String, Integer> keyIds = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+        int[] keyOfItem = new int[placements.itemCount()];
+        for (int item = 0; item < keyOfItem.length; item++) {
+            String key = itemKey(placements.itemName(item));
+            Integer id = keyIds.get(key);
+            if (id == null) {
+                id = keys.size();
+                keyIds.put(key, id);
+                keys.add(key);
+            }
+            keyOfItem[item] = id;
+        }
+
+        /* Count each world's placements per key in parallel, then give each world its own slice of every bucket */
+        int keyCount = keys.size();
+        List<int[]> worldCounts = IndexBuilder.perWorld(placements.worldCount(), world -> {
+            int[] counts = new int[keyCount];
+            for (int i = 0; i < placements.size(world); i++) {
+                counts[keyOfItem[placements.itemId(world, i)]]++;
+            }
+            return counts;
+        });
+
+        int[][] buckets = new int[keyCount][];
+        int[][] worldOffsets = new int[placements.worldCount()][keyCount];
+        for (int k = 0; k < keyCount; k++) {
+            int total = 0;
+            for (int w = 0; w < worldOffsets.length; w++) {
+                worldOffsets[w][k] = total * 2;
+                total += worldCounts.get(w)[k];
+            }
+            buckets[k] = new int[total * 2];
+        }
+
+        IndexBuilder.perWorld(placements.worldCount(), world -> {
+            int[] next = worldOffsets[world - 1];
+            for (int i = 0; i < placements.size(world); i++) {
+                int k = keyOfItem[placements.itemId(world, i)];
+                buckets[k][next[k]++] = world;
+                buckets[k][next[k]++] = i;
+            }
+            return null;
+        });
+
+        Map<String, int[]> byItem = new HashMap<>();
+        for (int k = 0; k < buckets.length; k++) {
+            byItem.put(keys.get(k), buckets[k]);
+        }
+        return new ItemLocationIndex(placements, Collections.unmodifiableMap(byItem));
+    }
+
+
+    /**
+     * Key under which an item, or any of its aliases, is indexed.
+     * @param item item name or alias
+     * @return normalized canonical name of the item
+     */
+    public static String itemKey(String item) {
+        String canonical = AliasIndex.canonical(Aliases.AliasType.ITEMS, item);
+        return AliasIndex.normalize((canonical == null) ? item : canonical);
+    }
+
+
+    /**
+     * @return the placements this index was built over
+     */
+    public PlacementTable placements() {
+        return placements;
+    }
+
+
+    /**
+     * Finds every placement of an item.
+     * Results are pairs of world number and placement index into {@link #placements()}, flattened
+     * as {world, index, world, index, ...}.
+     *
+     * @param item item name or alias
+     * @return placements of the item; empty if it was never placed
+     */
+    public int[] find(String item) {
+        int[] found = byItem.get(itemKey(item));
+        return (found == null) ? new int[0] : found.clone();
+    }
+}
@@ -0,0 +1,173 @@
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Writes query results as indented text, one entry per line.
+ *
+ * The tree is walked once and written straight to the output, so printing a large result such as
+ * every location of a world makes no copy of the whole document. Objects and arrays lose their
+ * braces and brackets: an entry holding a nested object or array is followed by its contents on
+ * the next lines, one level deeper, and array elements start with "- ".
+ *
+ * e.g. {"World 1": {"Kokiri Sword Chest": {"item": "Bombchus (5)", "player": 2}}} prints as
+ * <pre>
+ * "World 1":
+ *     "Kokiri Sword Chest":
+ *         "item": "Bombchus (5)"
+ *         "player": 2
+ * </pre>
+ */
+public final class JsonPrinter {
+
+    private static final String INDENT = "    ";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Appendable out;
+    private boolean firstLine = true; /* No line break before the first line, and none after the last */
+
+
+    private JsonPrinter(Appendable out) {
+        this.out = out;
+    }
+
+
+    /**
+     * Writes a JSON value as indented text.
+     *
+     * @param value a Map, List, String, Number, Boolean or null, as produced by json-simple
+     * @param out where to write the text
+     * @throws IOException if out does
+     */
+    public static void print(Object value, Appendable out) throws IOException {
+        JsonPrinter printer = new JsonPrinter(out);
+        if (value instanceof Map || value instanceof List) {
+            printer.printContents(value, 0);
+        }
+        else {
+            printer.printScalar(value);
+        }
+    }
+
+
+    /**
+     * @param value a Map, List, String, Number, Boolean or null, as produced by json-simple
+     * @return the value as indented text
+     */
+    public static String toString(Object value) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            print(value, sb);
+        }
+        catch (IOException e) {
+            /* StringBuilder does not throw */
+            throw new IllegalStateException(e);
+        }
+        return sb.toString();
+    }
+
+
+    private void printContents(Object value, int depth) throws IOException {
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>)value).entrySet()) {
+                startLine(depth);
+                printString(String.valueOf(entry.getKey()));
+                out.append(':');
+                printValue(entry.getValue(), depth);
+            }
+        }
+        else {
+            for (Object element : (List<?>)value) {
+                startLine(depth);
+                out.append('-');
+                printValue(element, depth);
+            }
+        }
+    }
+
+
+    /**
+     * Writes the value of an entry or array element whose line has already been started.
+     * Non-empty objects and arrays continue on the following lines.
+     */
+    private void printValue(Object value, int depth) throws IOException {
+        if (value instanceof Map && !((Map<?, ?>)value).isEmpty()
+                || value instanceof List && !((List<?>)value).isEmpty()) {
+            printContents(value, depth + 1);
+        }
+        else {
+            out.append(' ');
+            printScalar(value);
+        }
+    }
+
+
+    private void printScalar(Object value) throws IOException {
+        if (value instanceof String) {
+            printString((String)value);
+        }
+        else if (value instanceof Map) {
+            out.append("{}");
+        }
+        else if (value instanceof List) {
+            out.append("[]");
+        }
+        else {
+            out.append(String.valueOf(value));
+        }
+    }
+
+
+    private void startLine(int depth) throws IOException {
+        if (firstLine) {
+            firstLine = false;
+        }
+        else {
+            out.append('\n');
+        }
+        for (int i = 0; i < depth; i++) {
+            out.append(INDENT);
+        }
+    }
+
+
+    /**
+     * Writes a string in double quotes, escaped as in JSON.
+     */
+    private void printString(String s) throws IOException {
+        out.append('"');
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c != '"' && c != '\\' && c >= 0x20) {
+                continue;
+            }
+
+            out.append(s, start, i);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+        out.append(s, start, s.length());
+        out.append('"');
+    }
+}
@@ -110,4 +110,166 @@ public class Keys {
             "chicken_count",
             "trials"
     };
+
+    /* Keys a 6.2 spoiler log must have */
+    public static final String[] REQUIRED_KEYS_V6_2 = {
+            ":version",
+            "file_hash",
+            ":seed",
+            ":settings_string",
+            "settings",
+            "randomized_settings",
+            "starting_items",
+            "locations"
+    };
+
+    public static final String[] KEYS_V8 = {
+            ":seed_url",
+            ":version",
+            "file_hash",
+            ":seed",
+            ":settings_string",
+            ":enable_distribution_file",
+            "settings",
+            "randomized_settings",
+            "item_pool",
+            "dungeons",
+            "empty_dungeons",
+            "trials",
+            "songs",
+            "entrances",
+            "locations",
+            ":skipped_locations",
+            ":woth_locations",
+            ":goal_locations",
+            ":barren_regions",
+            "gossip_stones",
+            ":playthrough",
+            ":entrance_playthrough"
+    };
+
+    /* Keys a v8 spoiler log must have */
+    public static final String[] REQUIRED_KEYS_V8 = {
+            ":version",
+            "file_hash",
+            ":seed",
+            ":settings_string",
+            "settings",
+            "randomized_settings",
+            "item_pool",
+            "locations"
+    };
+
+    public static final String[] SETTINGS_V8 = {
+            "show_seed_info",
+            "user_message",
+            "world_count",
+            "create_spoiler",
+            "randomize_settings",
+            "logic_rules",
+            "reachable_locations",
+            "triforce_hunt",
+            "lacs_condition",
+            "bridge",
+            "trials_random",
+            "trials",
+            "shuffle_ganon_bosskey",
+            "shuffle_bosskeys",
+            "shuffle_smallkeys",
+            "shuffle_hideoutkeys",
+            "shuffle_tcgkeys",
+            "key_rings_choice",
+            "keyring_give_bk",
+            "shuffle_silver_rupees",
+            "silver_rupee_pouches_choice",
+            "shuffle_mapcompass",
+            "enhance_map_compass",
+            "open_forest",
+            "open_kakariko",
+            "open_door_of_time",
+            "zora_fountain",
+            "gerudo_fortress",
+            "dungeon_shortcuts_choice",
+            "starting_age",
+            "mq_dungeons_mode",
+            "mq_dungeons_count",
+            "empty_dungeons_mode",
+            "shuffle_interior_entrances",
+            "shuffle_grotto_entrances",
+            "shuffle_dungeon_entrances",
+            "shuffle_bosses",
+            "shuffle_overworld_entrances",
+            "shuffle_gerudo_valley_river_exit",
+            "owl_drops",
+            "warp_songs",
+            "spawn_positions",
+            "free_bombchu_drops",
+            "one_item_per_dungeon",
+            "shuffle_song_items",
+            "shopsanity",
+            "shopsanity_prices",
+            "tokensanity",
+            "shuffle_scrubs",
+            "shuffle_child_trade",
+            "shuffle_freestanding_items",
+            "shuffle_pots",
+            "shuffle_crates",
+            "shuffle_cows",
+            "shuffle_beehives",
+            "shuffle_kokiri_sword",
+            "shuffle_ocarinas",
+            "shuffle_gerudo_card",
+            "shuffle_beans",
+            "shuffle_expensive_merchants",
+            "shuffle_frog_song_rupees",
+            "shuffle_individual_ocarina_notes",
+            "shuffle_loach_reward",
+            "logic_no_night_tokens_without_suns_song",
+            "disabled_locations",
+            "allowed_tricks",
+            "starting_items",
+            "start_with_consumables",
+            "start_with_rupees",
+            "starting_hearts",
+            "no_escape_sequence",
+            "no_guard_stealth",
+            "no_epona_race",
+            "skip_some_minigame_phases",
+            "complete_mask_quest",
+            "useful_cutscenes",
+            "fast_chests",
+            "free_scarecrow",
+            "fast_bunny_hood",
+            "auto_equip_masks",
+            "plant_beans",
+            "chicken_count_random",
+            "big_poe_count_random",
+            "big_poe_count",
+            "easier_fire_arrow_entry",
+            "fae_torch_count",
+            "ruto_already_f1_jabu",
+            "ocarina_songs",
+            "correct_chest_appearances",
+            "invisible_chests",
+            "correct_potcrate_appearances",
+            "key_appearance_match_dungeon",
+            "clearer_hints",
+            "hints",
+            "hint_dist",
+            "item_hints",
+            "hint_dist_user",
+            "misc_hints",
+            "text_shuffle",
+            "damage_multiplier",
+            "deadly_bonks",
+            "no_collectible_hearts",
+            "starting_tod",
+            "blue_fire_arrows",
+            "fix_broken_drops",
+            "item_pool_value",
+            "junk_ice_traps",
+            "ice_trap_appearance",
+            "adult_trade_shuffle",
+            "adult_trade_start"
+    };
 }
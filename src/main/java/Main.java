@@ -1,13 +1,78 @@
+import org.json.simple.JSONObject;
 import org.json.simple.parser.ParseException;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.regex.Pattern;
 
 public class Main {
 
+    /* Splits a query on spaces that are not inside double quotes */
+    private static final Pattern ARG_SPLIT = Pattern.compile(" (?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)");
+
+    private static final String USAGE = "Usage: Main [--batch <spoiler log> [query file]]"
+            + " [--serve <port> <spoiler log directory> [cached logs]]"
+            + " [--watch <port> <spoiler log directory> [cached logs]]"
+            + " [--corpus <spoiler log directory> <item> [setting=value ...]]"
+            + " [--export <output file> <spoiler log or directory> ...]"
+            + " [--settings <spoiler log> [setting]]";
+
+    private static final int DEFAULT_SERVER_CACHE = 32;
+
+    private static final int DEFAULT_WATCH_THREADS = 2;
+
+    private static final int BATCH_QUERY_CACHE = 1024;
+
     public static void main(String[] args) {
 
+        if (args.length > 0) {
+            if (args[0].equals("--batch") && (args.length == 2 || args.length == 3)) {
+                runBatch(args[1], (args.length == 3) ? args[2] : null);
+            }
+            else if ((args[0].equals("--serve") || args[0].equals("--watch")) && (args.length == 3 || args.length == 4)) {
+                int port;
+                int cacheSize;
+                try {
+                    port = Integer.parseInt(args[1]);
+                    cacheSize = (args.length == 4) ? Integer.parseInt(args[3]) : DEFAULT_SERVER_CACHE;
+                }
+                catch (NumberFormatException e) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                runServer(port, args[2], cacheSize, args[0].equals("--watch"));
+            }
+            else if (args[0].equals("--corpus") && args.length >= 3) {
+                runCorpus(args[1], args[2], Arrays.copyOfRange(args, 3, args.length));
+            }
+            else if (args[0].equals("--export") && args.length >= 3) {
+                runExport(args[1], Arrays.copyOfRange(args, 2, args.length));
+            }
+            else if (args[0].equals("--settings") && (args.length == 2 || args.length == 3)) {
+                runSettings(args[1], (args.length == 3) ? args[2] : null);
+            }
+            else {
+                System.out.println(USAGE);
+            }
+            return;
+        }
+
         String spoilerInput = "";
         boolean isPath;
         OOTRSpoiler spoiler = null;
@@ -28,8 +93,11 @@ public class Main {
 
         spoilerInput = scanner.nextLine();
         try {
-            spoilerInput = "samplespoilers/multiworldv8.json"; //FOR DEBUGGING
             spoiler = new OOTRSpoiler(spoilerInput, isPath);
+            if (!spoiler.hasKnownVersion()) {
+                System.out.println(versionNotice(spoiler));
+            }
+            System.out.println("World Count: " + spoiler.getWorldCount());
         }
         catch (Exception e) {
             System.out.println(e);
@@ -37,18 +105,256 @@ public class Main {
         }
 
 
+        PrintWriter console = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
         while (true) {
             System.out.println("Enter what you are looking for.");
             response = scanner.nextLine();
-            String[] spoilerArgs = response.split(" (?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)");
-            for (int i = 0; i < spoilerArgs.length; i++) {
-                spoilerArgs[i] = spoilerArgs[i].replaceAll("\"", "").trim();
-            }
-            System.out.println("Arg Tokens: " + Arrays.toString(spoilerArgs));
+            String[] spoilerArgs = parseQuery(response);
 
-            System.out.println(OOTRSpoiler.jsonObjToString(spoiler.get(spoilerArgs)));
+            try {
+                JSONObject result = spoiler.get(spoilerArgs);
+                if (result == null) {
+                    System.out.println("Not a recognized key: " + spoilerArgs[0] + "."
+                            + AliasMatcher.didYouMean(Aliases.AliasType.KEYS, spoilerArgs[0]));
+                }
+                else {
+                    /* Written straight to the console, a whole world's locations can be large */
+                    JsonPrinter.print(result, console);
+                    console.println();
+                    console.flush();
+                }
+            }
+            catch (IOException e) {
+                System.out.println(e);
+            }
+            catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage());
+            }
             System.out.println("-------------------------------");
         }
 
     }
+
+
+    /**
+     * Splits a query typed by the user into the args of {@link OOTRSpoiler#get}.
+     * Words are separated by spaces, and a quoted phrase such as "Ralphie's hole" stays one word.
+     *
+     * @param query the query, e.g. item_pool 1 "progressive hookshot"
+     * @return the words of the query with quotes removed
+     */
+    public static String[] parseQuery(String query) {
+        String[] spoilerArgs = ARG_SPLIT.split(query.trim());
+        for (int i = 0; i < spoilerArgs.length; i++) {
+            spoilerArgs[i] = spoilerArgs[i].replace("\"", "").trim();
+        }
+        return spoilerArgs;
+    }
+
+
+    /**
+     * @param spoiler a log whose version has no schema
+     * @return a note telling which version the log is read as
+     */
+    private static String versionNotice(OOTRSpoiler spoiler) {
+        return "Note: spoiler logs of version " + spoiler.getKey(":version") + " are not known, so this log is read as"
+                + " version " + spoiler.getSchema().version() + ".";
+    }
+
+
+    /**
+     * Loads a spoiler log once and answers every query in a file, or in standard input if no
+     * file is given. Each query is on its own line, and each answer is written to standard
+     * output on a single line, as JSON or as a line starting with "error: ".
+     *
+     * @param spoilerPath path to the spoiler log
+     * @param queryPath path to the file of queries, or null to read them from standard input
+     */
+    private static void runBatch(String spoilerPath, String queryPath) {
+        OOTRSpoiler spoiler;
+        try {
+            spoiler = new OOTRSpoiler(spoilerPath, true, true);
+        }
+        catch (IOException | ParseException e) {
+            System.err.println("Could not load " + spoilerPath + ": " + e);
+            System.exit(1);
+            return;
+        }
+        if (!spoiler.hasKnownVersion()) {
+            /* Standard output only holds answers */
+            System.err.println(versionNotice(spoiler));
+        }
+
+        PrintWriter out = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16));
+        QueryCache answered = new QueryCache(BATCH_QUERY_CACHE);
+        try (BufferedReader queries = new BufferedReader(openQueries(queryPath))) {
+            String line;
+            while ((line = queries.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                out.println(answer(spoiler, answered, parseQuery(line)));
+            }
+        }
+        catch (IOException e) {
+            System.err.println("Could not read queries: " + e);
+        }
+        out.flush();
+    }
+
+
+    /**
+     * Serves queries over HTTP for every spoiler log in a directory, until the process is stopped.
+     * When watching, logs are loaded in the background and logs added to the directory later are
+     * picked up without a restart.
+     *
+     * @param port port to listen on
+     * @param logDir directory holding the spoiler logs
+     * @param cacheSize how many parsed logs to keep in memory at most
+     * @param watch true to keep loading logs as they appear in logDir
+     */
+    private static void runServer(int port, String logDir, int cacheSize, boolean watch) {
+        /* JVM-wide; without TCP_NODELAY each reply of the server waits on a delayed ACK */
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        SpoilerStore store = new SpoilerStore(cacheSize);
+        try {
+            String serving;
+            if (watch) {
+                new SpoilerWatcher(store, Paths.get(logDir), DEFAULT_WATCH_THREADS).start();
+                serving = "Serving the spoiler logs of " + logDir + " as they load";
+            }
+            else {
+                serving = "Serving " + store.loadDirectory(Paths.get(logDir)) + " spoiler logs";
+            }
+            SpoilerServer server = new SpoilerServer(store);
+            port = server.start(port);
+            System.out.println(serving + " on http://127.0.0.1:" + port + "/seed/");
+        }
+        catch (IOException e) {
+            System.err.println("Could not start the server: " + e);
+            System.exit(1);
+        }
+    }
+
+
+    /**
+     * Prints statistics over every spoiler log of a directory, read on every available core.
+     * @param logDir directory of spoiler logs
+     * @param item item whose dungeon is counted
+     * @param filters settings a log must have to be counted, each as setting=value
+     */
+    private static void runCorpus(String logDir, String item, String[] filters) {
+        Map<String, String> settings = new LinkedHashMap<>();
+        for (String filter : filters) {
+            int equals = filter.indexOf('=');
+            if (equals <= 0) {
+                System.out.println(USAGE);
+                return;
+            }
+            settings.put(filter.substring(0, equals), filter.substring(equals + 1));
+        }
+
+        try {
+            JSONObject report = new CorpusAnalyzer(item, settings)
+                    .analyze(Paths.get(logDir), Runtime.getRuntime().availableProcessors());
+            System.out.println(JsonPrinter.toString(report));
+        }
+        catch (IOException e) {
+            System.err.println("Could not read " + logDir + ": " + e);
+            System.exit(1);
+        }
+    }
+
+
+    /**
+     * Exports the locations and settings of spoiler logs into a columnar file.
+     * @param outPath path of the columnar file to write
+     * @param inputs spoiler logs, or directories whose .json files are exported
+     */
+    private static void runExport(String outPath, String[] inputs) {
+        try {
+            List<Path> logs = new ArrayList<>();
+            for (String input : inputs) {
+                Path path = Paths.get(input);
+                if (Files.isDirectory(path)) {
+                    try (DirectoryStream<Path> files = Files.newDirectoryStream(path, "*.json")) {
+                        for (Path file : files) {
+                            logs.add(file);
+                        }
+                    }
+                }
+                else {
+                    logs.add(path);
+                }
+            }
+
+            long start = System.nanoTime();
+            long rows = ColumnarExport.write(logs, Paths.get(outPath));
+            System.out.printf("Exported %d locations of %d spoiler logs to %s in %.2f s%n",
+                    rows, logs.size(), outPath, (System.nanoTime() - start) / 1e9);
+        }
+        catch (IOException | ParseException | IllegalArgumentException e) {
+            System.err.println("Could not export: " + e);
+            System.exit(1);
+        }
+    }
+
+
+    /**
+     * Prints the settings of a spoiler log, read from the start of the log without loading it.
+     * @param spoilerPath path to the spoiler log
+     * @param setting name or alias of the setting to print, or null for every setting
+     */
+    private static void runSettings(String spoilerPath, String setting) {
+        String[] spoilerArgs = (setting == null) ? new String[] {"settings"} : new String[] {"settings", setting};
+        try {
+            System.out.println(JsonPrinter.toString(OOTRSpoiler.getSettings(spoilerPath, spoilerArgs)));
+        }
+        catch (IOException | ParseException e) {
+            System.err.println("Could not read " + spoilerPath + ": " + e);
+            System.exit(1);
+        }
+        catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+
+    private static Reader openQueries(String queryPath) throws IOException {
+        if (queryPath == null) {
+            return new InputStreamReader(System.in, StandardCharsets.UTF_8);
+        }
+        return Files.newBufferedReader(Paths.get(queryPath), StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Answers a single query on one line.
+     * @param spoiler spoiler log to query
+     * @param queries answers already given, shared by every query of the batch
+     * @param spoilerArgs the query, split into args
+     * @return the answer as JSON, or an error message starting with "error: "
+     */
+    private static String answer(OOTRSpoiler spoiler, QueryCache queries, String[] spoilerArgs) {
+        try {
+            String result = queries.get(spoiler, spoilerArgs);
+            if (result == null) {
+                return "error: Not a recognized key: " + spoilerArgs[0] + "."
+                        + AliasMatcher.didYouMean(Aliases.AliasType.KEYS, spoilerArgs[0]);
+            }
+            return result;
+        }
+        catch (IllegalArgumentException e) {
+            return "error: " + e.getMessage();
+        }
+        catch (RuntimeException e) {
+            /* One malformed query should not end the whole batch */
+            return "error: " + e;
+        }
+    }
 }
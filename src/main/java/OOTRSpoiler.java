@@ -1,10 +1,8 @@
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
 
@@ -13,38 +11,164 @@ public class OOTRSpoiler {
 
     private JSONObject spoilerJSON; /* Content of spoiler log, in a ready to use JSON.simple object */
 
+    private SpoilerSections sections; /* Unparsed top-level sections, null when loaded from a snapshot */
+
+    private SpoilerSnapshot snapshot; /* Binary copy of the log when an up to date one was found, null otherwise */
+
+    private final StringPool pool = new StringPool(); /* Shares repeated names between parsed sections */
+
+    private SpoilerSchema schema; /* Layout of the log's version, picked once it is loaded */
+
+    private boolean valid; /* True if the log has every section its schema requires */
+
+    private List<String> missing; /* Sections the schema requires that the log does not have */
+
+    private boolean knownVersion; /* False if the log's version has no schema and is read with the newest */
+
     private long worldCount; /* How many worlds this log represents */
 
-    private String multiworld_err_msg = "This is a multiworld spoiler. " +
-            "Please specify a world with an integer " +
-            "e.g. 1 or 2 etc. up to your total world count which is " + worldCount;
+    private PlacementTable placements; /* Compact copy of "locations", built on first use */
+
+    private ItemLocationIndex itemLocations; /* Item -> placements, built on first use */
+
+    private PlaythroughIndex playthrough; /* Sphere ordered ":playthrough", built on first use */
+
+    private PlaythroughIndex entrancePlaythrough; /* Sphere ordered ":entrance_playthrough", built on first use */
+
+    private List<EntranceGraph> entranceGraphs; /* Shuffled entrances of each world, built on first use */
+
+    private HintIndex hints; /* Words, items and locations -> gossip stones, built on first use */
+
 
     public OOTRSpoiler(String spoilerIn, boolean isPath) throws IOException, ParseException {
-        String spoilerText;
+        this(spoilerIn, isPath, false);
+    }
+
+
+    /**
+     * Loads a spoiler log, optionally parsing each top-level section only when it is first used.
+     * When snapshots are enabled, a log loaded from a path is read from its {@link SpoilerSnapshot}
+     * instead when an up to date one exists, and a full parse of a valid log writes one for the next load.
+     * A full parse parses the top-level sections of the log's version, see {@link SpoilerSchema}, right away;
+     * any other section is parsed when it is first asked for, as in a lazy load.
+     *
+     * @param spoilerIn path to the spoiler log, or the spoiler log itself
+     * @param isPath true if spoilerIn is a path
+     * @param lazy true to only index the top-level keys now and parse sections on demand
+     */
+    public OOTRSpoiler(String spoilerIn, boolean isPath, boolean lazy) throws IOException, ParseException {
+        if (isPath && SpoilerSnapshot.isEnabled()) {
+            snapshot = SpoilerSnapshot.open(Paths.get(spoilerIn), pool);
+        }
 
-        if (!isPath) {
-            spoilerText = spoilerIn;
+        if (snapshot != null) {
+            spoilerJSON = new JSONObject();
+            placements = snapshot.placements();
+        }
+        else if (lazy) {
+            sections = isPath ? SpoilerSections.fromFile(Paths.get(spoilerIn)) : SpoilerSections.fromString(spoilerIn);
+            spoilerJSON = new JSONObject();
         }
         else {
-            byte[] fileBytes = Files.readAllBytes(Paths.get(spoilerIn));
-            spoilerText = new String(fileBytes);
+            /* The sections the log's version knows are parsed now; a file is mapped, never held as a String */
+            sections = isPath ? SpoilerSections.fromFile(Paths.get(spoilerIn)) : SpoilerSections.fromString(spoilerIn);
+            Object version = sections.parse(":version");
+            SpoilerSchema known = SchemaRegistry.forVersion((version instanceof String) ? (String)version : null);
+            spoilerJSON = new JSONObject();
+            for (String key : sections.keys()) {
+                if (known.isKnown(key)) {
+                    spoilerJSON.put(key, sections.parse(key, pool.containerFactory()));
+                }
+            }
         }
 
-        JSONParser parser = new JSONParser();
-        spoilerJSON = (JSONObject)parser.parse(spoilerText);
+        checkSchema();
+        if (snapshot != null && !lazy) {
+            /* Sections the schema does not know are still decoded if they are asked for */
+            for (String key : snapshot.keys()) {
+                if (schema.isKnown(key)) {
+                    getKey(key);
+                }
+            }
+        }
+        countWorlds();
+
+        /* A lazy load has not parsed the whole log, so only a full parse of a valid log leaves a snapshot behind */
+        if (isPath && !lazy && snapshot == null && SpoilerSnapshot.isEnabled() && isValid()) {
+            try {
+                /* The snapshot holds every section, so the ones skipped above stay reachable from it */
+                for (String key : sections.keys()) {
+                    getKey(key);
+                }
+                SpoilerSnapshot.write(Paths.get(spoilerIn), spoilerJSON, getPlacements());
+            }
+            catch (IOException e) {
+                /* The snapshot only speeds up the next load, e.g. a read-only directory just goes without */
+            }
+        }
+    }
+
 
+    /**
+     * Wraps already indexed sections of a spoiler log, such as one held by a {@link SpoilerStore}.
+     * Sections are parsed lazily as they are requested.
+     *
+     * @param sections top-level sections of the spoiler log
+     */
+    public OOTRSpoiler(SpoilerSections sections) {
+        this.sections = sections;
+        this.spoilerJSON = new JSONObject();
+        checkSchema();
+        countWorlds();
+    }
+
+
+    /**
+     * Picks the schema of the log's ":version" and checks the log's top-level keys against it.
+     * Only the keys are looked at, so no section other than ":version" is parsed.
+     */
+    private void checkSchema() {
+        Object version = getKey(":version");
+        schema = SchemaRegistry.forVersion((version instanceof String) ? (String)version : null);
+        knownVersion = (version instanceof String) && SchemaRegistry.isKnown((String)version);
+
+        Collection<String> keys;
+        if (snapshot != null) {
+            keys = snapshot.keys();
+        }
+        else if (sections != null) {
+            keys = sections.keys();
+        }
+        else {
+            keys = new ArrayList<>();
+            for (Object key : spoilerJSON.keySet()) {
+                keys.add((String)key);
+            }
+        }
+        missing = schema.missing(keys);
+        valid = missing.isEmpty();
+    }
+
+
+    private void countWorlds() {
         if (this.isValid()) {
             String[] args = {"settings", "world_count"};
-            JSONObject worldCountObj = (JSONObject)this.getSubKey(args, "settings", Aliases.AliasType.SETTINGS);
+            JSONObject worldCountObj = this.getSubKey(args, "settings", Aliases.AliasType.SETTINGS);
             worldCount = (Long)worldCountObj.get("world_count");
-            System.out.println("World Count: " + worldCount);
         }
         else {
             worldCount = -1;
         }
+    }
 
+    /**
+     * @return how many worlds this spoiler log represents, or -1 if it is not valid
+     */
+    public long getWorldCount() {
+        return worldCount;
     }
 
+
     /**
      * This method checks whether the spoiler log represented by this object is a valid one.
      * A spoiler log is valid if it is in correct JSON Format, and contains
@@ -53,9 +177,32 @@ public class OOTRSpoiler {
      * @return true if this spoiler log is valid, false if invalid.
      */
     public boolean isValid() {
-        if (spoilerJSON == null) return false;
+        return spoilerJSON != null && valid;
+    }
+
+
+    /**
+     * @return the sections this log's schema requires that the log does not have, empty if it is valid
+     */
+    public List<String> getMissingKeys() {
+        return Collections.unmodifiableList(missing);
+    }
+
+
+    /**
+     * @return false if no schema is registered for this log's ":version", which is then read
+     *         with the newest schema, see {@link #getSchema()}
+     */
+    public boolean hasKnownVersion() {
+        return knownVersion;
+    }
 
-        return true;
+
+    /**
+     * @return the layout of this log's randomizer version
+     */
+    public SpoilerSchema getSchema() {
+        return schema;
     }
 
 
@@ -72,16 +219,12 @@ public class OOTRSpoiler {
      */
     public JSONObject get(String[] args) {
 
-        String[][] keyAliases = Aliases.keyAliases();
-        for (String[] keyType : keyAliases) {
-            for (String alias : keyType) {
-                if (args[0].equalsIgnoreCase(alias)) {
-                    return getSpoilerLogKey(keyType[0], args);
-                }
-            }
+        String key = AliasIndex.canonical(Aliases.AliasType.KEYS, args[0]);
+        if (key == null) {
+            return null;
         }
 
-        return null;
+        return getSpoilerLogKey(key, args);
     }
 
 
@@ -89,21 +232,6 @@ public class OOTRSpoiler {
         JSONObject obj = new JSONObject();
 
         switch (key) {
-            case "version":
-                obj.put(":version", getKey(":version"));
-                return obj;
-            case "file_hash":
-                obj.put("file_hash", getKey("file_hash"));
-                return obj;
-            case "seed":
-                obj.put(":seed", getKey(":seed"));
-                return obj;
-            case "settings_string":
-                obj.put(":settings_string",getKey(":settings_string"));
-                return obj;
-            case "enable_distribution_file":
-                obj.put(":enable_distribution_file", getKey(":enable_distribution_file"));
-                return obj;
             case "settings":
                 return getSubKey(args, "settings", Aliases.AliasType.SETTINGS);
             case "randomized_settings":
@@ -112,8 +240,27 @@ public class OOTRSpoiler {
             case "item_pool":
                 verifyMultiworldArgs(args);
                 return getSubKeyMultiworld(args, "item_pool", Aliases.AliasType.ITEMS);
+            case "where":
+                return findItem(args);
+            case "playthrough":
+                return findInPlaythrough(args, getPlaythrough());
+            case "entrance_playthrough":
+                return findInPlaythrough(args, getEntrancePlaythrough());
+            case "entrances":
+                return findEntrances(args);
+            case "route":
+                return findRoute(args);
+            case "hints":
+                return findHints(args);
             default:
-                return null;
+                /* Any other section is returned whole, under the key this version uses for it */
+                String section = schema.section(key);
+                if (section == null) {
+                    throw new IllegalArgumentException("Spoiler logs of version " + schema.version()
+                            + " have no " + key + " section.");
+                }
+                obj.put(section, getKey(section));
+                return obj;
         }
     }
 
@@ -124,8 +271,435 @@ public class OOTRSpoiler {
      * @param keyName name of top-level key
      * @return A JSONObject representing the key and value of keyName
      */
+    @SuppressWarnings("unchecked")
     public Object getKey(String keyName) {
-        return spoilerJSON.get(keyName);
+        if (sections == null && snapshot == null) {
+            return spoilerJSON.get(keyName);
+        }
+
+        synchronized (this) {
+            if (!spoilerJSON.containsKey(keyName) && snapshot != null && snapshot.contains(keyName)) {
+                spoilerJSON.put(keyName, snapshot.decode(keyName, pool.containerFactory()));
+            }
+            else if (!spoilerJSON.containsKey(keyName) && sections != null && sections.contains(keyName)) {
+                try {
+                    spoilerJSON.put(keyName, sections.parse(keyName, pool.containerFactory()));
+                }
+                catch (ParseException e) {
+                    throw new IllegalStateException("Section " + keyName + " of the spoiler log is not valid JSON: " + e);
+                }
+            }
+            return spoilerJSON.get(keyName);
+        }
+    }
+
+
+
+    /**
+     * Returns every item placement of this spoiler log in a compact, column oriented table.
+     * The table is built from the "locations" section the first time it is requested.
+     *
+     * @return placement table of all worlds
+     * @throws IllegalArgumentException if the log is not valid, so how its worlds are laid out is not known
+     */
+    public synchronized PlacementTable getPlacements() {
+        if (!isValid()) {
+            throw new IllegalArgumentException("This spoiler log is not valid, it has no "
+                    + String.join(", ", missing) + ". Its item placements cannot be read.");
+        }
+        if (placements == null) {
+            JSONObject locations = (JSONObject)getKey("locations");
+            placements = PlacementTable.build((locations == null) ? new JSONObject() : locations, (int)worldCount);
+        }
+        return placements;
+    }
+
+
+
+    /**
+     * Builds every derived index of this spoiler log now instead of on first use.
+     * Each index is built one world at a time on the {@link IndexBuilder} pool, so this
+     * scales with the number of cores rather than the number of worlds.
+     */
+    public void buildIndexes() {
+        getItemLocations();
+        getPlaythrough();
+        getEntrancePlaythrough();
+        getEntranceGraph(1);
+        getHints();
+    }
+
+
+
+    /**
+     * Returns the reverse index from items to the locations they were placed at.
+     * The index is built the first time it is requested.
+     *
+     * @return index of every item placement in every world
+     */
+    public synchronized ItemLocationIndex getItemLocations() {
+        if (itemLocations == null) {
+            itemLocations = ItemLocationIndex.build(getPlacements());
+        }
+        return itemLocations;
+    }
+
+
+
+    /**
+     * Returns the sphere index of the ":playthrough" section.
+     * The index is built the first time it is requested.
+     *
+     * @return index of every sphere of the playthrough
+     */
+    public synchronized PlaythroughIndex getPlaythrough() {
+        if (playthrough == null) {
+            playthrough = PlaythroughIndex.build((JSONObject)getKey(":playthrough"), "item", (int)worldCount);
+        }
+        return playthrough;
+    }
+
+
+
+    /**
+     * Returns the sphere index of the ":entrance_playthrough" section.
+     * The index is built the first time it is requested.
+     *
+     * @return index of every sphere of the entrance playthrough
+     */
+    public synchronized PlaythroughIndex getEntrancePlaythrough() {
+        if (entrancePlaythrough == null) {
+            entrancePlaythrough = PlaythroughIndex.build((JSONObject)getKey(":entrance_playthrough"),
+                    "region", (int)worldCount);
+        }
+        return entrancePlaythrough;
+    }
+
+
+
+    /**
+     * Returns the graph of the shuffled entrances of a world.
+     * The graphs of every world are built, in parallel, the first time one is requested.
+     *
+     * @param world world number, starting at 1
+     * @return entrance graph of the world
+     */
+    public EntranceGraph getEntranceGraph(int world) {
+        synchronized (this) {
+            if (entranceGraphs == null) {
+                JSONObject entrances = (JSONObject)getKey("entrances");
+                JSONObject settings = (JSONObject)getKey("settings");
+                boolean decoupled = settings != null && Boolean.TRUE.equals(settings.get("decouple_entrances"));
+                entranceGraphs = IndexBuilder.perWorld((int)Math.max(worldCount, 1), w -> EntranceGraph.build(
+                        worldSection(entrances, w), decoupled));
+            }
+        }
+        return entranceGraphs.get(world - 1);
+    }
+
+
+
+    /**
+     * Returns the search index of the "gossip_stones" section.
+     * The index is built the first time it is requested.
+     *
+     * @return index of the hints of every world
+     */
+    public synchronized HintIndex getHints() {
+        if (hints == null) {
+            hints = HintIndex.build((JSONObject)getKey("gossip_stones"), (int)worldCount);
+        }
+        return hints;
+    }
+
+
+
+    /**
+     * Finds every location an item was placed at.
+     *
+     * args[1] = name or alias of the item
+     * args[2] = optional player number, to only list the copies that player receives
+     * @param args the item and optional player
+     * @return the matching placements, grouped by the world they are in
+     */
+    @SuppressWarnings("unchecked")
+    private JSONObject findItem(String[] args) {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Please specify an item to look for, e.g. where hookshot");
+        }
+
+        long player = -1;
+        if (args.length > 2) {
+            try {
+                player = Long.parseLong(args[2]);
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException(multiworldErrMsg());
+            }
+        }
+
+        ItemLocationIndex index = getItemLocations();
+        PlacementTable table = index.placements();
+        int[] found = index.find(args[1]);
+
+        JSONObject obj = new JSONObject();
+        for (int i = 0; i < found.length; i += 2) {
+            int world = found[i];
+            int placement = found[i + 1];
+            if (player != -1 && table.player(world, placement) != player) {
+                continue;
+            }
+
+            JSONObject item = new JSONObject();
+            item.put("item", table.item(world, placement));
+            item.put("player", (long)table.player(world, placement));
+
+            String worldKey = "World " + world;
+            JSONObject worldObj = (JSONObject)obj.get(worldKey);
+            if (worldObj == null) {
+                worldObj = new JSONObject();
+                obj.put(worldKey, worldObj);
+            }
+            worldObj.put(table.location(world, placement), item);
+        }
+
+        return obj;
+    }
+
+
+
+    /**
+     * Answers a query about the playthrough or the entrance playthrough.
+     *
+     * args[1] = optional sphere number, item (or region), or location (or entrance).
+     *           The whole playthrough if not specified.
+     * args[2] = optional world number. For a sphere or a location, the world the location is in;
+     *           for an item, the player receiving it.
+     * @param args the sphere, item or location and optional world
+     * @param index playthrough index to search
+     * @return the matching steps, grouped by "Sphere N"
+     */
+    @SuppressWarnings("unchecked")
+    private JSONObject findInPlaythrough(String[] args, PlaythroughIndex index) {
+        if (args.length < 2 || args[1].equalsIgnoreCase("all")) {
+            String key = index.valueField().equals("item") ? ":playthrough" : ":entrance_playthrough";
+            JSONObject obj = new JSONObject();
+            obj.put(key, getKey(key));
+            return obj;
+        }
+
+        int world = 0;
+        if (args.length > 2) {
+            try {
+                world = Integer.parseInt(args[2]);
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException(multiworldErrMsg());
+            }
+            if (world < 1 || world > worldCount) {
+                throw new IllegalArgumentException(multiworldErrMsg());
+            }
+        }
+
+        int[] entries;
+        try {
+            entries = index.inSphere(Integer.parseInt(args[1]), world);
+        }
+        catch (NumberFormatException e) {
+            entries = index.findValue(args[1], world);
+            if (entries.length == 0) {
+                entries = index.findName(args[1], world);
+            }
+        }
+        if (entries.length == 0) {
+            throw new IllegalArgumentException(args[1] + " is not in the playthrough"
+                    + ((world == 0) ? "" : " of world " + world));
+        }
+
+        JSONObject obj = new JSONObject();
+        for (int entry : entries) {
+            Object step;
+            if (index.valueField().equals("item")) {
+                JSONObject item = new JSONObject();
+                item.put("item", index.value(entry));
+                item.put("player", (long)index.player(entry));
+                step = item;
+            }
+            else if (index.from(entry) != null) {
+                JSONObject region = new JSONObject();
+                region.put("region", index.value(entry));
+                region.put("from", index.from(entry));
+                step = region;
+            }
+            else {
+                step = index.value(entry);
+            }
+
+            String sphereKey = "Sphere " + index.sphere(entry);
+            JSONObject sphereObj = (JSONObject)obj.get(sphereKey);
+            if (sphereObj == null) {
+                sphereObj = new JSONObject();
+                obj.put(sphereKey, sphereObj);
+            }
+            sphereObj.put(index.name(entry), step);
+        }
+
+        return obj;
+    }
+
+
+
+    /**
+     * Lists the shuffled entrances of a world, optionally only those leaving or arriving in a region.
+     *
+     * args[1] = world number, only for a multiworld
+     * args[2] (args[1] for a single world) = optional region name or alias. All entrances if not specified.
+     * @param args the world and optional region
+     * @return the matching entrances, keyed "A -> B" as in the log
+     */
+    @SuppressWarnings("unchecked")
+    private JSONObject findEntrances(String[] args) {
+        int world = parseWorld(args, 1);
+        int regionArg = (worldCount > 1) ? 2 : 1;
+        JSONObject worldEntrances = worldSection((JSONObject)getKey("entrances"), world);
+        if (worldEntrances == null) {
+            throw new IllegalArgumentException("This spoiler log has no shuffled entrances.");
+        }
+        if (args.length <= regionArg || args[regionArg].equalsIgnoreCase("all")) {
+            return worldEntrances;
+        }
+
+        JSONObject obj = new JSONObject();
+        String name = getEntranceGraph(world).regionName(args[regionArg]);
+        if (name == null) {
+            return obj;
+        }
+        String region = EntranceGraph.regionKey(name);
+        for (Object entryObj : worldEntrances.entrySet()) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>)entryObj;
+            String entrance = (String)entry.getKey();
+            int arrow = entrance.indexOf(" -> ");
+            Object value = entry.getValue();
+            String target = String.valueOf((value instanceof JSONObject) ? ((JSONObject)value).get("region") : value);
+            if (EntranceGraph.regionKey(target).equals(region)
+                    || (arrow >= 0 && EntranceGraph.regionKey(entrance.substring(0, arrow)).equals(region))) {
+                obj.put(entrance, value);
+            }
+        }
+        return obj;
+    }
+
+
+
+    /**
+     * Finds the route through the fewest shuffled entrances from one region to another.
+     *
+     * args[1] = region to start in
+     * args[2] = region to arrive in
+     * args[3] = world number, only for a multiworld
+     * @param args the regions and world
+     * @return the entrances to take in order, under "route"
+     */
+    @SuppressWarnings("unchecked")
+    private JSONObject findRoute(String[] args) {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("Please specify two regions, e.g. route \"Kokiri Forest\" \"Gerudo Valley\"");
+        }
+        int world = parseWorld(args, 3);
+
+        List<String[]> route = getEntranceGraph(world).route(args[1], args[2]);
+        if (route == null) {
+            throw new IllegalArgumentException("No route from " + args[1] + " to " + args[2]
+                    + " through the shuffled entrances.");
+        }
+
+        JSONArray steps = new JSONArray();
+        for (String[] step : route) {
+            JSONObject obj = new JSONObject();
+            obj.put("entrance", step[0]);
+            obj.put("region", step[1]);
+            steps.add(obj);
+        }
+        JSONObject obj = new JSONObject();
+        obj.put("route", steps);
+        return obj;
+    }
+
+
+
+    /**
+     * Finds the gossip stones whose hint mentions a word, item, location or region.
+     *
+     * args[1] = what to look for, e.g. hookshot or "Shadow Temple"
+     * args[2] = optional world number, every world if not specified
+     * @param args the search and optional world
+     * @return the matching hints, grouped by the world they are in
+     */
+    @SuppressWarnings("unchecked")
+    private JSONObject findHints(String[] args) {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Please specify what to look for, e.g. hints hookshot");
+        }
+
+        int world = 0;
+        if (args.length > 2) {
+            world = parseWorld(new String[] {args[0], args[2]}, 1);
+        }
+
+        HintIndex index = getHints();
+        JSONObject obj = new JSONObject();
+        for (int stone : index.search(args[1], world)) {
+            String worldKey = "World " + index.world(stone);
+            JSONObject worldObj = (JSONObject)obj.get(worldKey);
+            if (worldObj == null) {
+                worldObj = new JSONObject();
+                obj.put(worldKey, worldObj);
+            }
+            worldObj.put(index.name(stone), index.hint(stone));
+        }
+
+        return obj;
+    }
+
+
+
+    /**
+     * Reads the world number of a query, which a multiworld requires and a single world has none of.
+     * @param args the query
+     * @param index position of the world number in args
+     * @return the world number, 1 for a single world
+     */
+    private int parseWorld(String[] args, int index) {
+        if (worldCount <= 1) {
+            return 1;
+        }
+        if (args.length <= index) {
+            throw new IllegalArgumentException(multiworldErrMsg());
+        }
+
+        int world;
+        try {
+            world = Integer.parseInt(args[index]);
+        }
+        catch (NumberFormatException e) {
+            throw new IllegalArgumentException(multiworldErrMsg());
+        }
+        if (world < 1 || world > worldCount) {
+            throw new IllegalArgumentException(multiworldErrMsg());
+        }
+        return world;
+    }
+
+
+
+    /**
+     * @return the part of a per-world section belonging to a world; a single world log holds it directly
+     */
+    private JSONObject worldSection(JSONObject section, int world) {
+        if (section == null || worldCount <= 1) {
+            return section;
+        }
+        return (JSONObject)section.get("World " + world);
     }
 
 
@@ -140,13 +714,33 @@ public class OOTRSpoiler {
      * @return the selected info contained within subkey.
      */
     public JSONObject getSubKey(String[] args, String superKey, Aliases.AliasType type) {
-        JSONObject subKeyObj = (JSONObject)spoilerJSON.get(superKey);
+        JSONObject subKeyObj = (JSONObject)getKey(superKey);
         String subKeyName = (args.length < 2) ? "all" : args[1];
 
         return subKey(subKeyObj, subKeyName, type);
     }
 
 
+    /**
+     * Same as get with a "settings" query, but reads only the settings at the start of the log
+     * through {@link SettingsHeader}, without loading the log.
+     *
+     * args[1] = name of specific setting. "All" by default if none exists
+     * @param path path to the spoiler log
+     * @param args "all" for all settings, or the name/alias of a specific desired setting
+     * @return the selected settings of the log
+     */
+    public static JSONObject getSettings(String path, String[] args) throws IOException, ParseException {
+        JSONObject settings = (JSONObject)SettingsHeader.read(Paths.get(path)).get("settings");
+        if (settings == null) {
+            throw new IllegalArgumentException(path + " has no settings section.");
+        }
+        String subKeyName = (args.length < 2) ? "all" : args[1];
+
+        return subKey(settings, subKeyName, Aliases.AliasType.SETTINGS);
+    }
+
+
 
     /**
      * Same as get subKey, but this takes care of keys with potential extra information
@@ -155,13 +749,18 @@ public class OOTRSpoiler {
      * Returns a specified subkey in a seed, or all subkeys if non specified
      * args[1] = world number
      * args[2] = name of specific key. Set to "all" by default if none specified
+     * A single world log holds the key directly rather than under "World 1", so there args[1] is
+     * the name of the specific key instead.
      * @param args "all" for all subkeys, or the name/alias of a specific desired subkey
      * @param superKey name of the superkey subkey belongs to.
      * @param type type of alias to consider
      * @return the selected info contained within subkey.
      */
     public JSONObject getSubKeyMultiworld(String[] args, String superKey, Aliases.AliasType type) {
-        JSONObject obj = (JSONObject)spoilerJSON.get(superKey);
+        JSONObject obj = (JSONObject)getKey(superKey);
+        if (worldCount <= 1 && !obj.containsKey("World 1")) {
+            return subKey(obj, (args.length < 2) ? "all" : args[1], type);
+        }
         JSONObject subKeyObj = (JSONObject)obj.get("World " + args[1]);
         String subKeyName = (args.length < 3) ? "all" : args[2];
 
@@ -177,31 +776,23 @@ public class OOTRSpoiler {
      * @param type specifies which aliases to look up when matching keyName
      * @return an object representing the extracted info.
      */
-    private JSONObject subKey(JSONObject keyObj, String keyName, Aliases.AliasType type) {
+    private static JSONObject subKey(JSONObject keyObj, String keyName, Aliases.AliasType type) {
         if (keyName.equals("all")) {
             return keyObj;
         }
 
         /* Determine which aliases to look for based on alias */
-        String[][] aliases = Aliases.getAliases(type);
-
-        List<String> chosen = null;
-        for (String[] element : aliases) {
-            for (String alias : element) {
-                if (alias.equalsIgnoreCase(keyName)) {
-                    chosen = new ArrayList<>(Arrays.asList(element));
-                }
-            }
-        }
+        AliasIndex.Entry chosen = AliasIndex.resolve(type, keyName);
 
         if (chosen == null) {
-            throw new IllegalArgumentException("Argument passed is not a recognized item name.");
+            throw new IllegalArgumentException("Argument passed is not a recognized item name."
+                    + AliasMatcher.didYouMean(type, keyName));
         }
 
         JSONObject relevantItems = new JSONObject();
         for (Object key : keyObj.keySet()) {
             String keyString = (String)key;
-            if (chosen.contains(keyString)) {
+            if (chosen.matches(keyString)) {
                 relevantItems.put(key, keyObj.get(key));
             }
         }
@@ -213,20 +804,19 @@ public class OOTRSpoiler {
 
     /**
      * Converts a jsonObject into an easier-to-read string to display.
+     * Use {@link JsonPrinter#print} to write a large result straight to its destination instead.
      * @param obj jsonObject to read information from and convert
-     * @return a formatted string with all info from obj
+     * @return a formatted string with all info from obj, one entry per line
      */
     public static String jsonObjToString(JSONObject obj) {
-        String objStr = obj.toString();
-        String res = "";
+        return JsonPrinter.toString(obj);
+    }
 
-        res = objStr.replaceAll("\\{", "");
-        res = res.replaceAll("\\}", "");
-        res = objStr.replaceAll("\\[", "");
-        res = objStr.replaceAll("]", "");
-        res = res.replaceAll(",", "\n");
 
-        return res;
+    private String multiworldErrMsg() {
+        return "This is a multiworld spoiler. " +
+                "Please specify a world with an integer " +
+                "e.g. 1 or 2 etc. up to your total world count which is " + worldCount;
     }
 
 
@@ -242,7 +832,7 @@ public class OOTRSpoiler {
 
         /*  must specify a world if multiworld */
         if (worldCount > 1 && args.length < 2) {
-            throw new IllegalArgumentException(multiworld_err_msg);
+            throw new IllegalArgumentException(multiworldErrMsg());
         }
 
         /* args[1] must be an integer within 1 <= x <= world_count range */
@@ -252,10 +842,10 @@ public class OOTRSpoiler {
                 count = Integer.parseInt(args[1]);
             }
             catch (NumberFormatException e) {
-                throw new IllegalArgumentException(multiworld_err_msg);
+                throw new IllegalArgumentException(multiworldErrMsg());
             }
             if (count > worldCount) {
-                throw new IllegalArgumentException(multiworld_err_msg);
+                throw new IllegalArgumentException(multiworldErrMsg());
             }
         }
     }
@@ -0,0 +1,262 @@
+import org.json.simple.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A compact, column oriented copy of the "locations" section of a spoiler log.
+ *
+ * Location and item names are interned into shared dictionaries, and every world stores its
+ * placements as three parallel arrays: the location id, the item id, and the player receiving
+ * the item packed into a byte. This replaces several HashMap entries, a boxed Long and a
+ * duplicate item name String per placement in the json-simple tree.
+ */
+public final class PlacementTable {
+
+    private final String[] locationNames; /* location id -> location name */
+    private final String[] itemNames; /* item id -> item name */
+
+    private final int[][] locationIds; /* [world - 1][placement] -> location id */
+    private final int[][] itemIds; /* [world - 1][placement] -> item id */
+    private final byte[][] players; /* [world - 1][placement] -> receiving player, unsigned */
+
+
+    /**
+     * Wraps already built columns, such as those read back from a {@link SpoilerSnapshot}.
+     * The arrays are used as they are, not copied.
+     */
+    PlacementTable(String[] locationNames, String[] itemNames,
+                           int[][] locationIds, int[][] itemIds, byte[][] players) {
+        this.locationNames = locationNames;
+        this.itemNames = itemNames;
+        this.locationIds = locationIds;
+        this.itemIds = itemIds;
+        this.players = players;
+    }
+
+
+    /**
+     * Builds the table from the "locations" section of a spoiler log.
+     * Multiworld logs key each world as "World N"; single world logs hold the locations directly.
+     * A location's value may be just the item name, or an object with "item" and optionally "player".
+     *
+     * Worlds are read in parallel on the {@link IndexBuilder} pool, each into dictionaries of
+     * its own, which are then merged into the shared dictionaries.
+     *
+     * @param locations the "locations" section
+     * @param worldCount how many worlds the log represents
+     * @return table of every item placement
+     * @throws IllegalArgumentException if worldCount is less than 1
+     */
+    public static PlacementTable build(JSONObject locations, int worldCount) {
+        if (worldCount < 1) {
+            throw new IllegalArgumentException("A spoiler log has at least 1 world, not " + worldCount + ".");
+        }
+        List<WorldPlacements> worlds = IndexBuilder.perWorld(worldCount, world ->
+                new WorldPlacements(world, (worldCount > 1) ? (JSONObject)locations.get("World " + world) : locations));
+
+        /* Merge the per-world dictionaries, remembering how each world's ids map to shared ids */
+        Map<String, Integer> locationDict = new HashMap<>();
+        Map<String, Integer> itemDict = new HashMap<>();
+        List<String> locationNames = new ArrayList<>();
+        List<String> itemNames = new ArrayList<>();
+        List<int[][]> remaps = new ArrayList<>(worldCount);
+        for (WorldPlacements world : worlds) {
+            int[] locationRemap = new int[world.locationNames.size()];
+            for (int i = 0; i < locationRemap.length; i++) {
+                locationRemap[i] = intern(world.locationNames.get(i), locationDict, locationNames);
+            }
+            int[] itemRemap = new int[world.itemNames.size()];
+            for (int i = 0; i < itemRemap.length; i++) {
+                itemRemap[i] = intern(world.itemNames.get(i), itemDict, itemNames);
+            }
+            remaps.add(new int[][] {locationRemap, itemRemap});
+        }
+
+        IndexBuilder.perWorld(worldCount, world -> {
+            worlds.get(world - 1).remap(remaps.get(world - 1)[0], remaps.get(world - 1)[1]);
+            return null;
+        });
+
+        int[][] locationIds = new int[worldCount][];
+        int[][] itemIds = new int[worldCount][];
+        byte[][] players = new byte[worldCount][];
+        for (int w = 0; w < worldCount; w++) {
+            locationIds[w] = worlds.get(w).locationIds;
+            itemIds[w] = worlds.get(w).itemIds;
+            players[w] = worlds.get(w).players;
+        }
+
+        return new PlacementTable(locationNames.toArray(new String[0]), itemNames.toArray(new String[0]),
+                locationIds, itemIds, players);
+    }
+
+
+    private static int intern(String name, Map<String, Integer> dict, List<String> names) {
+        Integer id = dict.get(name);
+        if (id == null) {
+            id = names.size();
+            dict.put(name, id);
+            names.add(name);
+        }
+        return id;
+    }
+
+
+    /**
+     * Placements of a single world, with ids local to that world until they are remapped.
+     */
+    private static class WorldPlacements {
+        private final List<String> locationNames = new ArrayList<>();
+        private final List<String> itemNames = new ArrayList<>();
+        private final int[] locationIds;
+        private final int[] itemIds;
+        private final byte[] players;
+
+        WorldPlacements(int world, JSONObject worldLocations) {
+            int size = (worldLocations == null) ? 0 : worldLocations.size();
+            locationIds = new int[size];
+            itemIds = new int[size];
+            players = new byte[size];
+            if (worldLocations == null) {
+                return;
+            }
+
+            Map<String, Integer> locationDict = new HashMap<>();
+            Map<String, Integer> itemDict = new HashMap<>();
+            int i = 0;
+            for (Object entryObj : worldLocations.entrySet()) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>)entryObj;
+                Object value = entry.getValue();
+                String item;
+                long player = world;
+                if (value instanceof JSONObject) {
+                    JSONObject placement = (JSONObject)value;
+                    item = String.valueOf(placement.get("item"));
+                    if (placement.get("player") instanceof Long) {
+                        player = (Long)placement.get("player");
+                    }
+                }
+                else {
+                    item = String.valueOf(value);
+                }
+
+                locationIds[i] = intern((String)entry.getKey(), locationDict, locationNames);
+                itemIds[i] = intern(item, itemDict, itemNames);
+                players[i] = (byte)player;
+                i++;
+            }
+        }
+
+        void remap(int[] locationRemap, int[] itemRemap) {
+            for (int i = 0; i < locationIds.length; i++) {
+                locationIds[i] = locationRemap[locationIds[i]];
+                itemIds[i] = itemRemap[itemIds[i]];
+            }
+        }
+    }
+
+
+    /**
+     * @return how many worlds the table holds
+     */
+    public int worldCount() {
+        return locationIds.length;
+    }
+
+
+    /**
+     * @param world world number, starting at 1
+     * @return how many placements the world has
+     */
+    public int size(int world) {
+        return locationIds[world - 1].length;
+    }
+
+
+    /**
+     * @param world world number, starting at 1
+     * @param index placement index, from 0 to size(world) - 1
+     * @return id of the placement's location
+     */
+    public int locationId(int world, int index) {
+        return locationIds[world - 1][index];
+    }
+
+
+    /**
+     * @param world world number, starting at 1
+     * @param index placement index, from 0 to size(world) - 1
+     * @return id of the placed item
+     */
+    public int itemId(int world, int index) {
+        return itemIds[world - 1][index];
+    }
+
+
+    /**
+     * @param world world number, starting at 1
+     * @param index placement index, from 0 to size(world) - 1
+     * @return name of the placement's location
+     */
+    public String location(int world, int index) {
+        return locationNames[locationId(world, index)];
+    }
+
+
+    /**
+     * @param world world number, starting at 1
+     * @param index placement index, from 0 to size(world) - 1
+     * @return name of the placed item
+     */
+    public String item(int world, int index) {
+        return itemNames[itemId(world, index)];
+    }
+
+
+    /**
+     * @param world world number, starting at 1
+     * @param index placement index, from 0 to size(world) - 1
+     * @return the player that receives the placed item
+     */
+    public int player(int world, int index) {
+        return players[world - 1][index] & 0xFF;
+    }
+
+
+    /**
+     * @return how many distinct location names the table holds
+     */
+    public int locationCount() {
+        return locationNames.length;
+    }
+
+
+    /**
+     * @return how many distinct item names the table holds
+     */
+    public int itemCount() {
+        return itemNames.length;
+    }
+
+
+    /**
+     * @param id location id
+     * @return the name of the location
+     */
+    public String locationName(int id) {
+        return locationNames[id];
+    }
+
+
+    /**
+     * @param id item id
+     * @return the name of the item
+     */
+    public String itemName(int id) {
+        return itemNames[id];
+    }
+}
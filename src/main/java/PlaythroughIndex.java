@@ -0,0 +1,312 @@
+import org.json.simple.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A sphere ordered copy of the ":playthrough" or ":entrance_playthrough" section of a spoiler log.
+ *
+ * Both sections map a sphere number to the steps taken in it, keyed "Location [Wn]" or
+ * "Entrance -> Target [Wn]" in a multiworld log. Here every step is an entry, and the entries
+ * are sorted by sphere and then by the world of the location or entrance, so the steps of one
+ * sphere, or of one sphere in one world, are a contiguous slice found by binary search.
+ * Lookup tables from the item (or region) and from the location (or entrance) to their entries
+ * answer "which sphere is this in" without scanning the playthrough. Items are keyed like
+ * {@link ItemLocationIndex} keys them; regions by their exact name, like {@link EntranceGraph} does,
+ * and a region asked for is resolved through the exit aliases.
+ */
+public final class PlaythroughIndex {
+
+    private final String valueField; /* "item" for the playthrough, "region" for the entrance playthrough */
+    private final int worldCount;
+
+    private final int[] sphereNumbers; /* sphere index -> sphere number, ascending */
+    private final int[] start; /* [sphere index * worldCount + world - 1] -> first entry; one extra end slot */
+
+    private final String[] names; /* entry -> key in the log, e.g. "KF Kokiri Sword Chest [W2]" */
+    private final String[] values; /* entry -> item or region */
+    private final String[] froms; /* entry -> "from" of an entrance, or null */
+    private final int[] spheres; /* entry -> sphere number */
+    private final byte[] worlds; /* entry -> world of the location or entrance */
+    private final byte[] players; /* entry -> player receiving the item, or the world for entrances */
+
+    private final Map<String, int[]> byValue; /* item key or region key -> entries, in sphere order */
+    private final Map<String, int[]> byName; /* normalized name without its world -> entries, in sphere order */
+
+
+    private PlaythroughIndex(String valueField, int worldCount, int[] sphereNumbers, int[] start,
+                             String[] names, String[] values, String[] froms, int[] spheres,
+                             byte[] worlds, byte[] players) {
+        this.valueField = valueField;
+        this.worldCount = worldCount;
+        this.sphereNumbers = sphereNumbers;
+        this.start = start;
+        this.names = names;
+        this.values = values;
+        this.froms = froms;
+        this.spheres = spheres;
+        this.worlds = worlds;
+        this.players = players;
+
+        Map<String, List<Integer>> valueLists = new HashMap<>();
+        Map<String, List<Integer>> nameLists = new HashMap<>();
+        for (int e = 0; e < names.length; e++) {
+            valueLists.computeIfAbsent(valueKey(values[e]), k -> new ArrayList<>()).add(e);
+            nameLists.computeIfAbsent(nameKey(names[e]), k -> new ArrayList<>()).add(e);
+        }
+        this.byValue = toArrays(valueLists);
+        this.byName = toArrays(nameLists);
+    }
+
+
+    /**
+     * Builds the index of a playthrough section.
+     * A step's value may be just the item or region, or an object holding it under valueField,
+     * with optionally "player" and "from".
+     *
+     * @param section the ":playthrough" or ":entrance_playthrough" section, or null if the log has none
+     * @param valueField "item" for the playthrough, "region" for the entrance playthrough
+     * @param worldCount how many worlds the log represents
+     * @return index of every step of the section
+     */
+    public static PlaythroughIndex build(JSONObject section, String valueField, int worldCount) {
+        if (section == null) {
+            section = new JSONObject();
+        }
+
+        int[] sphereNumbers = new int[section.size()];
+        Map<Integer, JSONObject> steps = new HashMap<>();
+        int worlds = Math.max(worldCount, 1);
+        int s = 0;
+        for (Object entryObj : section.entrySet()) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>)entryObj;
+            int sphere = Integer.parseInt(String.valueOf(entry.getKey()));
+            sphereNumbers[s++] = sphere;
+            steps.put(sphere, (JSONObject)entry.getValue());
+            for (Object name : ((JSONObject)entry.getValue()).keySet()) {
+                worlds = Math.max(worlds, worldOf((String)name));
+            }
+        }
+        Arrays.sort(sphereNumbers);
+
+        /* Count the steps of every (sphere, world) slot one slot to the right, then sum into start offsets */
+        int[] start = new int[sphereNumbers.length * worlds + 1];
+        for (s = 0; s < sphereNumbers.length; s++) {
+            for (Object name : steps.get(sphereNumbers[s]).keySet()) {
+                start[s * worlds + worldOf((String)name)]++;
+            }
+        }
+        for (int i = 1; i < start.length; i++) {
+            start[i] += start[i - 1];
+        }
+
+        int size = start[start.length - 1];
+        String[] names = new String[size];
+        String[] values = new String[size];
+        String[] froms = new String[size];
+        int[] spheres = new int[size];
+        byte[] worldOfEntry = new byte[size];
+        byte[] players = new byte[size];
+        int[] next = Arrays.copyOf(start, start.length - 1);
+        for (s = 0; s < sphereNumbers.length; s++) {
+            for (Object entryObj : steps.get(sphereNumbers[s]).entrySet()) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>)entryObj;
+                String name = (String)entry.getKey();
+                int world = worldOf(name);
+                int e = next[s * worlds + world - 1]++;
+
+                names[e] = name;
+                spheres[e] = sphereNumbers[s];
+                worldOfEntry[e] = (byte)world;
+                players[e] = (byte)world;
+                Object value = entry.getValue();
+                if (value instanceof JSONObject) {
+                    JSONObject step = (JSONObject)value;
+                    values[e] = String.valueOf(step.get(valueField));
+                    if (step.get("player") instanceof Long) {
+                        players[e] = (byte)(long)(Long)step.get("player");
+                    }
+                    if (step.get("from") != null) {
+                        froms[e] = String.valueOf(step.get("from"));
+                    }
+                }
+                else {
+                    values[e] = String.valueOf(value);
+                }
+            }
+        }
+
+        return new PlaythroughIndex(valueField, worlds, sphereNumbers, start,
+                names, values, froms, spheres, worldOfEntry, players);
+    }
+
+
+    /**
+     * @return "item" for the playthrough, "region" for the entrance playthrough
+     */
+    public String valueField() {
+        return valueField;
+    }
+
+
+    /**
+     * @return how many entries the index holds
+     */
+    public int size() {
+        return names.length;
+    }
+
+
+    /**
+     * Lists the steps of a sphere.
+     * @param sphere sphere number
+     * @param world world of the location or entrance, or 0 for every world
+     * @return entries of the sphere in world order; empty if there is no such sphere
+     */
+    public int[] inSphere(int sphere, int world) {
+        int s = Arrays.binarySearch(sphereNumbers, sphere);
+        if (s < 0 || world > worldCount) {
+            return new int[0];
+        }
+
+        int from = (world == 0) ? start[s * worldCount] : start[s * worldCount + world - 1];
+        int to = (world == 0) ? start[(s + 1) * worldCount] : start[s * worldCount + world];
+        int[] entries = new int[to - from];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = from + i;
+        }
+        return entries;
+    }
+
+
+    /**
+     * Finds the steps that collect an item, or that lead into a region.
+     * The first result is the earliest sphere it is found in.
+     *
+     * @param value item or region name; items may be given by any item alias, regions by any exit alias
+     * @param player player receiving the item (for entrances, the world), or 0 for every player
+     * @return matching entries in sphere order
+     */
+    public int[] findValue(String value, int player) {
+        String key = "region".equals(valueField) ? EntranceGraph.findRegionKey(value, byValue) : valueKey(value);
+        return filter((key == null) ? null : byValue.get(key), players, player);
+    }
+
+
+    /**
+     * Finds the steps at a location or entrance, i.e. the spheres needed to reach it.
+     *
+     * @param name location or entrance name, with or without its " [Wn]" suffix
+     * @param world world of the location or entrance, or 0 for every world
+     * @return matching entries in sphere order
+     */
+    public int[] findName(String name, int world) {
+        return filter(byName.get(nameKey(name)), worlds, world);
+    }
+
+
+    /**
+     * @return sphere number of an entry
+     */
+    public int sphere(int entry) {
+        return spheres[entry];
+    }
+
+
+    /**
+     * @return key of an entry in the log, e.g. "KF Kokiri Sword Chest [W2]"
+     */
+    public String name(int entry) {
+        return names[entry];
+    }
+
+
+    /**
+     * @return item or region of an entry
+     */
+    public String value(int entry) {
+        return values[entry];
+    }
+
+
+    /**
+     * @return "from" of an entrance entry, or null if it has none
+     */
+    public String from(int entry) {
+        return froms[entry];
+    }
+
+
+    /**
+     * @return player receiving the item of an entry, or the world of an entrance entry
+     */
+    public int player(int entry) {
+        return players[entry] & 0xFF;
+    }
+
+
+    private static int[] filter(int[] entries, byte[] column, int match) {
+        if (entries == null) {
+            return new int[0];
+        }
+        if (match == 0) {
+            return entries.clone();
+        }
+
+        int n = 0;
+        int[] matching = new int[entries.length];
+        for (int e : entries) {
+            if ((column[e] & 0xFF) == match) {
+                matching[n++] = e;
+            }
+        }
+        return Arrays.copyOf(matching, n);
+    }
+
+
+    private static Map<String, int[]> toArrays(Map<String, List<Integer>> lists) {
+        Map<String, int[]> arrays = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : lists.entrySet()) {
+            int[] entries = new int[entry.getValue().size()];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = entry.getValue().get(i);
+            }
+            arrays.put(entry.getKey(), entries);
+        }
+        return Collections.unmodifiableMap(arrays);
+    }
+
+
+    /**
+     * @param name key of a step, e.g. "KF Kokiri Sword Chest [W2]"
+     * @return the world in its " [Wn]" suffix, or 1 if it has none
+     */
+    private static int worldOf(String name) {
+        int open = name.lastIndexOf(" [W");
+        if (open < 0 || !name.endsWith("]")) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(name.substring(open + 3, name.length() - 1));
+        }
+        catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+
+    private String valueKey(String value) {
+        return "region".equals(valueField) ? EntranceGraph.regionKey(value) : ItemLocationIndex.itemKey(value);
+    }
+
+
+    private static String nameKey(String name) {
+        int open = name.lastIndexOf(" [W");
+        return AliasIndex.normalize((open < 0 || !name.endsWith("]")) ? name : name.substring(0, open));
+    }
+}
@@ -0,0 +1,226 @@
+import org.json.simple.JSONObject;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A size-bounded LRU cache of rendered answers, in front of {@link OOTRSpoiler#get}.
+ *
+ * Answers are keyed by the spoiler they came from and by the query after alias resolution, so
+ * "settings bridge" and "settings Bridge" share one entry, as do "item_pool 2 hookshot" and
+ * "item_pool 2 Progressive Hookshot". A log that is loaded again is a new {@link OOTRSpoiler}, so it
+ * never sees the answers of the old one; those are dropped with {@link #invalidate} or age out.
+ *
+ * The cache is bounded both in answers and in their total length, least recently used first.
+ * Only answers are cached: unknown keys and queries that throw are asked again every time.
+ */
+public class QueryCache {
+
+    public static final long DEFAULT_MAX_CHARS = 1L << 24; /* About 32 MB of answers */
+
+    private static final char SEPARATOR = '\u0000';
+
+    /* spoiler and query -> rendered answer, least recently used first */
+    private final Map<Key, String> answers = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final int capacity;
+
+    private final long maxChars;
+
+    private long chars; /* Total length of the cached answers */
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+
+    /**
+     * @param capacity how many answers to keep at most
+     */
+    public QueryCache(int capacity) {
+        this(capacity, DEFAULT_MAX_CHARS);
+    }
+
+
+    /**
+     * @param capacity how many answers to keep at most
+     * @param maxChars total length of the answers to keep at most; a single answer longer than
+     *                 a quarter of it, e.g. every location of a big multiworld, is not kept
+     */
+    public QueryCache(int capacity, long maxChars) {
+        this.capacity = capacity;
+        this.maxChars = maxChars;
+    }
+
+
+    /**
+     * Answers a query from the cache, or asks the spoiler and keeps the answer.
+     *
+     * @param spoiler spoiler log to query
+     * @param args the query, see {@link OOTRSpoiler#get}
+     * @return the answer as JSON, or null if args[0] is not a recognized key
+     * @throws IllegalArgumentException if the spoiler rejects the query
+     */
+    public String get(OOTRSpoiler spoiler, String[] args) {
+        String query = canonicalQuery(args);
+        if (query == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        Key key = new Key(spoiler, query);
+        String answer;
+        synchronized (answers) {
+            answer = answers.get(key);
+        }
+        if (answer != null) {
+            hits.incrementAndGet();
+            return answer;
+        }
+
+        misses.incrementAndGet();
+        JSONObject result = spoiler.get(args);
+        if (result == null) {
+            return null;
+        }
+        answer = result.toJSONString();
+        if (answer.length() <= maxChars / 4) {
+            put(key, answer);
+        }
+        return answer;
+    }
+
+
+    /**
+     * Drops every answer of a spoiler, e.g. once it is unloaded.
+     * @param spoiler spoiler log whose answers to drop
+     */
+    public void invalidate(OOTRSpoiler spoiler) {
+        synchronized (answers) {
+            Iterator<Map.Entry<Key, String>> entries = answers.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<Key, String> entry = entries.next();
+                if (entry.getKey().spoiler == spoiler) {
+                    chars -= entry.getValue().length();
+                    entries.remove();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * @return how many queries were answered from the cache
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+
+    /**
+     * @return how many queries had to be asked to a spoiler
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+
+    /**
+     * @return how many answers are cached
+     */
+    public int size() {
+        synchronized (answers) {
+            return answers.size();
+        }
+    }
+
+
+    private void put(Key key, String answer) {
+        synchronized (answers) {
+            String previous = answers.put(key, answer);
+            chars += answer.length() - ((previous == null) ? 0 : previous.length());
+
+            /* Evict least recently used answers until both bounds hold */
+            Iterator<String> eldest = answers.values().iterator();
+            while (answers.size() > capacity || chars > maxChars) {
+                chars -= eldest.next().length();
+                eldest.remove();
+            }
+        }
+    }
+
+
+    /**
+     * Builds the cache key of a query: its key and the setting or item it names are replaced by
+     * their canonical names, the other args are kept as typed.
+     *
+     * @param args the query, see {@link OOTRSpoiler#get}
+     * @return the query as one string, or null if args[0] is not a recognized key
+     */
+    static String canonicalQuery(String[] args) {
+        String key = AliasIndex.canonical(Aliases.AliasType.KEYS, args[0]);
+        if (key == null) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder(key);
+        for (int i = 1; i < args.length; i++) {
+            sb.append(SEPARATOR);
+            Aliases.AliasType type = argType(key, i);
+            AliasIndex.Entry entry = (type == null) ? null : AliasIndex.resolve(type, args[i]);
+            if (entry != null) {
+                /* Marked so a resolved name never equals an arg kept as typed */
+                sb.append(SEPARATOR).append(entry.canonical());
+            }
+            else {
+                sb.append(args[i]);
+            }
+        }
+        return sb.toString();
+    }
+
+
+    /**
+     * @return the alias type arg i of a query for key is resolved with, or null if it is taken as typed
+     */
+    private static Aliases.AliasType argType(String key, int i) {
+        switch (key) {
+            case "settings":
+                return (i == 1) ? Aliases.AliasType.SETTINGS : null;
+            case "randomized_settings":
+                return (i == 2) ? Aliases.AliasType.SETTINGS : null;
+            case "item_pool":
+                return (i == 2) ? Aliases.AliasType.ITEMS : null;
+            default:
+                return null;
+        }
+    }
+
+
+    private static final class Key {
+        private final OOTRSpoiler spoiler; /* Compared by identity, so a reloaded log is a new key */
+        private final String query;
+
+        Key(OOTRSpoiler spoiler, String query) {
+            this.spoiler = spoiler;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key)o;
+            return spoiler == other.spoiler && query.equals(other.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(spoiler) + query.hashCode();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * The {@link SpoilerSchema} of every known randomizer version, keyed by version prefix.
+ *
+ * A log's ":version", e.g. "8.0.0 Release", is looked up by its major.minor version ("8.0"), then
+ * by its major version ("8"). Versions that match neither use the newest schema, since a newer
+ * randomizer is more likely to be close to the latest known layout than to an old one; such a
+ * version is reported by {@link #isKnown}, so callers can tell the user the log is read as another version.
+ * The schema found for a version string is remembered, so later logs of the same version
+ * cost one map lookup.
+ */
+public final class SchemaRegistry {
+
+    private static final SpoilerSchema V6_2 = new SpoilerSchema("6.2", Keys.KEYS, Keys.SETTINGS_V6_2_0,
+            Keys.REQUIRED_KEYS_V6_2);
+
+    private static final SpoilerSchema V8 = new SpoilerSchema("8", Keys.KEYS_V8, Keys.SETTINGS_V8,
+            Keys.REQUIRED_KEYS_V8);
+
+    private static final SpoilerSchema LATEST = V8;
+
+    private static final Map<String, SpoilerSchema> BY_VERSION = build(); /* version prefix -> schema */
+
+    private static final Map<String, SpoilerSchema> RESOLVED = new ConcurrentHashMap<>(); /* ":version" -> schema */
+
+
+    private SchemaRegistry() {
+    }
+
+
+    /**
+     * @param version a log's ":version", e.g. "8.0.0 Release"; may be null
+     * @return the schema for that version, or the newest schema if the version is not known
+     */
+    public static SpoilerSchema forVersion(String version) {
+        if (version == null) {
+            return LATEST;
+        }
+        return RESOLVED.computeIfAbsent(version, SchemaRegistry::resolve);
+    }
+
+
+    /**
+     * @param version a log's ":version"; may be null
+     * @return true if a schema is registered for that version, false if it is read with the newest one
+     */
+    public static boolean isKnown(String version) {
+        return version != null && registered(version) != null;
+    }
+
+
+    /**
+     * @return every registered schema, oldest first
+     */
+    public static Collection<SpoilerSchema> all() {
+        return BY_VERSION.values();
+    }
+
+
+    private static SpoilerSchema resolve(String version) {
+        SpoilerSchema schema = registered(version);
+        return (schema == null) ? LATEST : schema;
+    }
+
+
+    private static SpoilerSchema registered(String version) {
+        /* "8.0.0 Release" -> "8.0" and "8" */
+        int end = 0;
+        while (end < version.length() && (Character.isDigit(version.charAt(end)) || version.charAt(end) == '.')) {
+            end++;
+        }
+        String[] parts = version.substring(0, end).split("\\.");
+        if (parts.length >= 2) {
+            SpoilerSchema schema = BY_VERSION.get(parts[0] + "." + parts[1]);
+            if (schema != null) {
+                return schema;
+            }
+        }
+        return BY_VERSION.get(parts[0]);
+    }
+
+
+    private static Map<String, SpoilerSchema> build() {
+        Map<String, SpoilerSchema> schemas = new LinkedHashMap<>();
+        for (SpoilerSchema schema : new SpoilerSchema[] {V6_2, V8}) {
+            schemas.put(schema.version(), schema);
+        }
+        return Collections.unmodifiableMap(schemas);
+    }
+}
@@ -0,0 +1,251 @@
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Reads the settings of a spoiler log from the start of the file, without reading the rest.
+ *
+ * A log starts with ":version", ":settings_string" and then "settings", which holds every setting
+ * the settings string encodes, under the names used by {@link Aliases#settingsAliases()}. The file
+ * is streamed through the parser, which is stopped as soon as "settings" ends, a few kilobytes in.
+ *
+ * Logs generated from the same settings string have the same settings, so the settings of every
+ * string read are remembered, and a later log with a known string is stopped right after the string.
+ *
+ * The settings string itself is not decoded here: its bit layout is defined per version by the
+ * randomizer's settings list, which is not part of this project, so the "settings" section the
+ * randomizer wrote next to it is what the string is resolved to.
+ */
+public final class SettingsHeader {
+
+    private static final int MAX_REMEMBERED = 1024; /* Settings strings whose settings are kept */
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /* ":version" + "\n" + ":settings_string" -> "settings", least recently used first */
+    private static final Map<String, JSONObject> REMEMBERED = Collections.synchronizedMap(
+            new LinkedHashMap<String, JSONObject>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, JSONObject> eldest) {
+                    return size() > MAX_REMEMBERED;
+                }
+            });
+
+
+    private SettingsHeader() {
+    }
+
+
+    /**
+     * Reads the settings of a spoiler log.
+     *
+     * @param log path of the spoiler log
+     * @return an object with the log's ":version", ":settings_string" and "settings", as in the log;
+     *         a key the log does not have before "settings" ends is left out
+     */
+    public static JSONObject read(Path log) throws IOException, ParseException {
+        try (Reader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(log), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            return read(reader);
+        }
+    }
+
+
+    /**
+     * Reads the settings of a spoiler log from a reader, which is left just past the end of "settings".
+     *
+     * @param reader text of the spoiler log, from its start
+     * @return an object with the log's ":version", ":settings_string" and "settings", as in the log
+     */
+    @SuppressWarnings("unchecked")
+    public static JSONObject read(Reader reader) throws IOException, ParseException {
+        HeaderHandler handler = new HeaderHandler();
+        new JSONParser().parse(reader, handler);
+
+        JSONObject header = new JSONObject();
+        if (handler.version != null) {
+            header.put(":version", handler.version);
+        }
+        if (handler.settingsString != null) {
+            header.put(":settings_string", handler.settingsString);
+        }
+        if (handler.settings != null) {
+            /* The remembered object is shared, so the caller gets its own copy, nested values included */
+            header.put("settings", copy(handler.settings));
+            if (handler.settingsString != null && !handler.remembered) {
+                REMEMBERED.put(rememberKey(handler.version, handler.settingsString), handler.settings);
+            }
+        }
+        return header;
+    }
+
+
+    /**
+     * @return a deep copy of a parsed value; strings, numbers and booleans are immutable and kept as they are
+     */
+    @SuppressWarnings("unchecked")
+    private static Object copy(Object value) {
+        if (value instanceof JSONObject) {
+            JSONObject object = new JSONObject();
+            for (Object entryObj : ((JSONObject)value).entrySet()) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>)entryObj;
+                object.put(entry.getKey(), copy(entry.getValue()));
+            }
+            return object;
+        }
+        if (value instanceof JSONArray) {
+            JSONArray array = new JSONArray();
+            for (Object element : (JSONArray)value) {
+                array.add(copy(element));
+            }
+            return array;
+        }
+        return value;
+    }
+
+
+    private static String rememberKey(String version, String settingsString) {
+        return version + "\n" + settingsString;
+    }
+
+
+    /**
+     * Builds the "settings" section as it is parsed and stops the parser when it ends, or as soon
+     * as the settings string turns out to be one already read.
+     */
+    private static class HeaderHandler implements ContentHandler {
+        private String version;
+        private String settingsString;
+        private JSONObject settings;
+        private boolean remembered; /* settings came from an earlier log */
+
+        private int depth; /* objects and arrays entered */
+        private String topKey; /* key of the top-level entry being read */
+        private final Deque<Object> containers = new ArrayDeque<>(); /* inside "settings", innermost first */
+        private final Deque<String> keys = new ArrayDeque<>(); /* inside "settings", innermost first */
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            if (depth == 1) {
+                topKey = key;
+            }
+            else if (!containers.isEmpty()) {
+                keys.push(key);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            if (depth == 1) {
+                /* Nothing after "settings" is needed */
+                return !"settings".equals(topKey);
+            }
+            if (!containers.isEmpty()) {
+                keys.pop();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            if (depth == 1 && value instanceof String) {
+                if (":version".equals(topKey)) {
+                    version = (String)value;
+                }
+                else if (":settings_string".equals(topKey)) {
+                    settingsString = (String)value;
+                    JSONObject known = REMEMBERED.get(rememberKey(version, settingsString));
+                    if (known != null) {
+                        settings = known;
+                        remembered = true;
+                        return false;
+                    }
+                }
+            }
+            else if (!containers.isEmpty()) {
+                add(value);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean startObject() {
+            depth++;
+            if (depth == 2 && "settings".equals(topKey)) {
+                settings = new JSONObject();
+                containers.push(settings);
+            }
+            else if (!containers.isEmpty()) {
+                JSONObject object = new JSONObject();
+                add(object);
+                containers.push(object);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            depth--;
+            if (!containers.isEmpty()) {
+                containers.pop();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            depth++;
+            if (!containers.isEmpty()) {
+                JSONArray array = new JSONArray();
+                add(array);
+                containers.push(array);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            depth--;
+            if (!containers.isEmpty()) {
+                containers.pop();
+            }
+            return true;
+        }
+
+        @Override
+        public void startJSON() {
+        }
+
+        @Override
+        public void endJSON() {
+        }
+
+        @SuppressWarnings("unchecked")
+        private void add(Object value) {
+            Object container = containers.peek();
+            if (container instanceof JSONObject) {
+                ((JSONObject)container).put(keys.peek(), value);
+            }
+            else {
+                ((JSONArray)container).add(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,413 @@
+import org.json.simple.JSONValue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+
+/**
+ * Writes synthetic multiworld spoiler logs for scale testing.
+ *
+ * The logs have the same top-level layout as samplespoilers/multiworldv8.json, with a chosen number
+ * of worlds, locations per world, playthrough spheres and gossip stone hints. A log of one world
+ * has the single world layout instead: sections are not split into "World 1", placements name
+ * only their item, and playthrough locations carry no world suffix. Item, region and setting
+ * names are taken from {@link Aliases} and {@link Keys}, so every query and index works on them the
+ * same way it does on a real log. The content is random but reproducible for a given random seed.
+ *
+ * Usage: SpoilerGenerator output.json worlds [locations per world] [playthrough depth] [hints per world] [random seed]
+ */
+public class SpoilerGenerator {
+
+    private static final String[] LOCATION_KINDS = {"Chest", "Freestanding PoH", "GS", "Pot", "Crate",
+            "Deku Scrub", "Great Fairy Reward", "Song", "Heart Piece", "Beehive"};
+
+    private static final String[] TRIALS = {"Forest", "Fire", "Water", "Spirit", "Shadow", "Light"};
+
+    private static final String[] COLORS = {"Red", "Green", "Blue", "White", "Purple", "Yellow"};
+
+    private static final String VERSION = "8.0.0 Release"; /* Settings are written from Keys.SETTINGS_V8 to match */
+
+    private final int worlds;
+    private final int locationsPerWorld;
+    private final int depth;
+    private final int hintsPerWorld;
+    private final long randomSeed;
+
+    private final String[] items;
+    private final String[] regions;
+    private final String[] locations;
+
+
+    /**
+     * @param worlds how many worlds the log represents, at least 1
+     * @param locationsPerWorld how many item locations each world has, at least 1
+     * @param depth how many playthrough spheres after sphere 0
+     * @param hintsPerWorld how many gossip stones each world has
+     * @param randomSeed seed of the random content; the same seed writes the same log
+     */
+    public SpoilerGenerator(int worlds, int locationsPerWorld, int depth, int hintsPerWorld, long randomSeed) {
+        if (worlds < 1 || locationsPerWorld < 1 || depth < 0 || hintsPerWorld < 0) {
+            throw new IllegalArgumentException("Worlds and locations must be at least 1, depth and hints at least 0.");
+        }
+        this.worlds = worlds;
+        this.locationsPerWorld = locationsPerWorld;
+        this.depth = depth;
+        this.hintsPerWorld = hintsPerWorld;
+        this.randomSeed = randomSeed;
+
+        this.items = canonicalNames(Aliases.itemAliases());
+        List<String> regionList = new ArrayList<>();
+        for (String name : canonicalNames(Aliases.getMultiExitMapAliases())) {
+            regionList.add(name);
+        }
+        for (String name : canonicalNames(Aliases.getSingleExitMapAliases())) {
+            regionList.add(name);
+        }
+        this.regions = regionList.toArray(new String[0]);
+        this.locations = locationNames(regions, locationsPerWorld);
+    }
+
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: SpoilerGenerator <output.json> <worlds> [locations per world]"
+                    + " [playthrough depth] [hints per world] [random seed]");
+            return;
+        }
+
+        int worlds = Integer.parseInt(args[1]);
+        int locations = (args.length > 2) ? Integer.parseInt(args[2]) : 700;
+        int depth = (args.length > 3) ? Integer.parseInt(args[3]) : 15;
+        int hints = (args.length > 4) ? Integer.parseInt(args[4]) : 40;
+        long seed = (args.length > 5) ? Long.parseLong(args[5]) : 1;
+
+        new SpoilerGenerator(worlds, locations, depth, hints, seed).write(Paths.get(args[0]));
+    }
+
+
+    /**
+     * Writes the log to a file as UTF-8.
+     * @param path file to write
+     */
+    public void write(Path path) throws IOException {
+        try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            write(out);
+        }
+    }
+
+
+    /**
+     * Writes the log. Sections are streamed out as they are generated rather than building
+     * the whole log in memory first.
+     * @param out where to write the log
+     */
+    public void write(Writer out) throws IOException {
+        Random random = new Random(randomSeed);
+        String seed = seedName(random);
+
+        /* Placements are drawn up front because locations, playthrough and hints must agree */
+        int[][] itemAt = new int[worlds][locationsPerWorld];
+        int[][] playerAt = new int[worlds][locationsPerWorld];
+        for (int w = 0; w < worlds; w++) {
+            for (int l = 0; l < locationsPerWorld; l++) {
+                itemAt[w][l] = random.nextInt(items.length);
+                playerAt[w][l] = 1 + random.nextInt(worlds);
+            }
+        }
+
+        out.write("{\n");
+        field(out, ":seed_url", "https://ootrandomizer.com/seed/get?id=" + random.nextInt(10000000));
+        field(out, ":version", VERSION);
+        name(out, "file_hash");
+        out.write('[');
+        for (int i = 0; i < 5; i++) {
+            out.write((i == 0 ? "" : ", ") + JSONValue.toJSONString(items[random.nextInt(items.length)]));
+        }
+        out.write("],\n");
+        field(out, ":seed", seed);
+        field(out, ":settings_string", seedName(random) + seedName(random) + seedName(random));
+        name(out, ":enable_distribution_file");
+        out.write("false,\n");
+
+        writeSettings(out, random);
+        writePerWorld(out, "randomized_settings", w -> {
+            out.write("{\"starting_tod\": \"evening\", \"starting_age\": \"" + (w % 2 == 0 ? "adult" : "child")
+                    + "\", \"chicken_count\": " + (w % 7) + "}");
+        });
+        writePerWorld(out, "item_pool", w -> writeItemPool(out, itemAt[w - 1]));
+        writePerWorld(out, "dungeons", w -> {
+            out.write('{');
+            for (int i = 0; i < CorpusAnalyzer.DUNGEONS.length; i++) {
+                out.write((i == 0 ? "" : ", ") + JSONValue.toJSONString(CorpusAnalyzer.DUNGEONS[i])
+                        + ": \"" + (random.nextInt(4) == 0 ? "mq" : "vanilla") + "\"");
+            }
+            out.write('}');
+        });
+        writePerWorld(out, "empty_dungeons", w -> {
+            out.write('{');
+            for (int i = 0; i < 8; i++) {
+                out.write((i == 0 ? "" : ", ") + JSONValue.toJSONString(CorpusAnalyzer.DUNGEONS[i]) + ": false");
+            }
+            out.write('}');
+        });
+        writePerWorld(out, "trials", w -> {
+            out.write('{');
+            for (int i = 0; i < TRIALS.length; i++) {
+                out.write((i == 0 ? "" : ", ") + "\"" + TRIALS[i] + "\": \""
+                        + (random.nextBoolean() ? "active" : "inactive") + "\"");
+            }
+            out.write('}');
+        });
+        writePerWorld(out, "songs", w -> out.write("{}"));
+        writePerWorld(out, "entrances", w -> writeEntrances(out, random));
+        writePerWorld(out, "locations", w -> writePlacements(out, w, itemAt, playerAt, 0, locationsPerWorld));
+        writePerWorld(out, ":skipped_locations", w -> writePlacements(out, w, itemAt, playerAt, 0, 1));
+        writePerWorld(out, ":woth_locations", w -> writePlacements(out, w, itemAt, playerAt, 1,
+                Math.min(locationsPerWorld, 9)));
+        writePerWorld(out, ":goal_locations", w -> out.write("{}"));
+        writePerWorld(out, ":barren_regions", w -> {
+            out.write('[');
+            for (int i = 0; i < 5; i++) {
+                out.write((i == 0 ? "" : ", ") + JSONValue.toJSONString(regions[random.nextInt(regions.length)]));
+            }
+            out.write(']');
+        });
+        writePerWorld(out, "gossip_stones", w -> writeHints(out, random, w, itemAt, playerAt));
+        writePlaythrough(out, random, itemAt, playerAt);
+        writeEntrancePlaythrough(out, random);
+        out.write("}\n");
+    }
+
+
+    private void writeSettings(Writer out, Random random) throws IOException {
+        name(out, "settings");
+        out.write("{\n");
+        String[] keys = Keys.SETTINGS_V8;
+        for (int i = 0; i < keys.length; i++) {
+            out.write("        " + JSONValue.toJSONString(keys[i]) + ": ");
+            if (keys[i].equals("world_count")) {
+                out.write(Integer.toString(worlds));
+            }
+            else if (keys[i].endsWith("_count") || keys[i].endsWith("_tokens") || keys[i].equals("trials")) {
+                out.write(Integer.toString(random.nextInt(8)));
+            }
+            else if (random.nextBoolean()) {
+                out.write(Boolean.toString(random.nextBoolean()));
+            }
+            else {
+                out.write(random.nextBoolean() ? "\"vanilla\"" : "\"random\"");
+            }
+            out.write(i == keys.length - 1 ? "\n" : ",\n");
+        }
+        out.write("    },\n");
+    }
+
+
+    private void writeItemPool(Writer out, int[] worldItems) throws IOException {
+        int[] counts = new int[items.length];
+        for (int item : worldItems) {
+            counts[item]++;
+        }
+        out.write('{');
+        boolean first = true;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                out.write((first ? "" : ", ") + JSONValue.toJSONString(items[i]) + ": " + counts[i]);
+                first = false;
+            }
+        }
+        out.write('}');
+    }
+
+
+    private void writeEntrances(Writer out, Random random) throws IOException {
+        out.write("{\n");
+        int count = Math.min(regions.length, 40);
+        for (int i = 0; i < count; i++) {
+            String from = regions[i];
+            String to = regions[random.nextInt(regions.length)];
+            out.write("            " + JSONValue.toJSONString(from + " -> " + to) + ": {\"region\": "
+                    + JSONValue.toJSONString(regions[random.nextInt(regions.length)]) + ", \"from\": "
+                    + JSONValue.toJSONString(regions[random.nextInt(regions.length)]) + "}");
+            out.write(i == count - 1 ? "\n" : ",\n");
+        }
+        out.write("        }");
+    }
+
+
+    private void writePlacements(Writer out, int world, int[][] itemAt, int[][] playerAt,
+                                 int from, int to) throws IOException {
+        out.write("{\n");
+        for (int l = from; l < to; l++) {
+            out.write("            ");
+            placement(out, locations[l], itemAt[world - 1][l], playerAt[world - 1][l]);
+            out.write(l == to - 1 ? "\n" : ",\n");
+        }
+        out.write("        }");
+    }
+
+
+    private void writeHints(Writer out, Random random, int world, int[][] itemAt, int[][] playerAt) throws IOException {
+        out.write("{\n");
+        for (int h = 0; h < hintsPerWorld; h++) {
+            int location = random.nextInt(locationsPerWorld);
+            String item = items[itemAt[world - 1][location]];
+            String region = regions[random.nextInt(regions.length)];
+            String text = "They say that #" + region + "# holds #" + item + "# for player "
+                    + playerAt[world - 1][location] + ".";
+
+            out.write("            " + JSONValue.toJSONString(region + " (Gossip Stone " + (h + 1) + ")")
+                    + ": {\"text\": " + JSONValue.toJSONString(text)
+                    + ", \"colors\": [\"" + COLORS[random.nextInt(COLORS.length)] + "\", \""
+                    + COLORS[random.nextInt(COLORS.length)] + "\"]"
+                    + ", \"hinted_locations\": [" + JSONValue.toJSONString(locations[location]) + "]"
+                    + ", \"hinted_items\": [" + JSONValue.toJSONString(item) + "]}");
+            out.write(h == hintsPerWorld - 1 ? "\n" : ",\n");
+        }
+        out.write("        }");
+    }
+
+
+    private void writePlaythrough(Writer out, Random random, int[][] itemAt, int[][] playerAt) throws IOException {
+        name(out, ":playthrough");
+        out.write("{\n");
+        Set<String> collected = new HashSet<>();
+        for (int sphere = 0; sphere <= depth; sphere++) {
+            /* Sphere 0 is every world's Links Pocket, later spheres collect locations not yet collected */
+            List<String> entries = new ArrayList<>();
+            int count = (sphere == 0) ? worlds : worlds * 3;
+            for (int i = 0; i < count; i++) {
+                int world = (sphere == 0) ? i + 1 : 1 + random.nextInt(worlds);
+                int location = (sphere == 0) ? 0 : random.nextInt(locationsPerWorld);
+                String key = locations[location] + worldSuffix(world);
+                if (collected.add(key)) {
+                    StringWriter entry = new StringWriter();
+                    placement(entry, key, itemAt[world - 1][location], playerAt[world - 1][location]);
+                    entries.add(entry.toString());
+                }
+            }
+
+            out.write("        \"" + sphere + "\": {\n");
+            for (int i = 0; i < entries.size(); i++) {
+                out.write("            " + entries.get(i) + (i == entries.size() - 1 ? "\n" : ",\n"));
+            }
+            out.write(sphere == depth ? "        }\n" : "        },\n");
+        }
+        out.write("    },\n");
+    }
+
+
+    private void writeEntrancePlaythrough(Writer out, Random random) throws IOException {
+        name(out, ":entrance_playthrough");
+        out.write("{\n");
+        for (int sphere = 1; sphere <= depth; sphere++) {
+            out.write("        \"" + sphere + "\": {\n");
+            for (int world = 1; world <= worlds; world++) {
+                String from = regions[random.nextInt(regions.length)];
+                String to = regions[random.nextInt(regions.length)];
+                out.write("            " + JSONValue.toJSONString(from + " -> " + to + worldSuffix(world))
+                        + ": {\"region\": " + JSONValue.toJSONString(regions[random.nextInt(regions.length)])
+                        + ", \"from\": " + JSONValue.toJSONString(from) + "}");
+                out.write(world == worlds ? "\n" : ",\n");
+            }
+            out.write(sphere == depth ? "        }\n" : "        },\n");
+        }
+        out.write("    }\n");
+    }
+
+
+    private void placement(Writer out, String location, int item, int player) throws IOException {
+        if (worlds == 1) {
+            out.write(JSONValue.toJSONString(location) + ": " + JSONValue.toJSONString(items[item]));
+            return;
+        }
+        out.write(JSONValue.toJSONString(location) + ": {\"item\": " + JSONValue.toJSONString(items[item])
+                + ", \"player\": " + player + "}");
+    }
+
+
+    /* " [W2]" after a playthrough location of world 2, nothing in a single world log */
+    private String worldSuffix(int world) {
+        return (worlds == 1) ? "" : " [W" + world + "]";
+    }
+
+
+    private void writePerWorld(Writer out, String key, WorldWriter writer) throws IOException {
+        name(out, key);
+        if (worlds == 1) {
+            /* A single world log holds the section directly */
+            writer.write(1);
+            out.write(",\n");
+            return;
+        }
+        out.write("{\n");
+        for (int w = 1; w <= worlds; w++) {
+            out.write("        \"World " + w + "\": ");
+            writer.write(w);
+            out.write(w == worlds ? "\n" : ",\n");
+        }
+        out.write("    },\n");
+    }
+
+
+    private static void name(Writer out, String key) throws IOException {
+        out.write("    " + JSONValue.toJSONString(key) + ": ");
+    }
+
+
+    private static void field(Writer out, String key, String value) throws IOException {
+        name(out, key);
+        out.write(JSONValue.toJSONString(value) + ",\n");
+    }
+
+
+    private static String seedName(Random random) {
+        String letters = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            sb.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        return sb.toString();
+    }
+
+
+    private static String[] canonicalNames(String[][] aliases) {
+        String[] names = new String[aliases.length];
+        for (int i = 0; i < aliases.length; i++) {
+            names[i] = aliases[i][0];
+        }
+        return names;
+    }
+
+
+    /* Unique location names built from region names, starting with the fixed "Links Pocket" */
+    private static String[] locationNames(String[] regions, int count) {
+        String[] names = new String[count];
+        names[0] = "Links Pocket";
+        for (int i = 1; i < count; i++) {
+            int n = i - 1;
+            int round = n / (regions.length * LOCATION_KINDS.length);
+            names[i] = regions[n % regions.length] + " " + LOCATION_KINDS[(n / regions.length) % LOCATION_KINDS.length]
+                    + (round > 0 ? " " + (round + 1) : "");
+        }
+        return names;
+    }
+
+
+    /**
+     * Writes the value of a per-world section for one world.
+     */
+    private interface WorldWriter {
+        void write(int world) throws IOException;
+    }
+}
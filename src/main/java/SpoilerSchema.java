@@ -0,0 +1,104 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * The layout of the spoiler logs of one randomizer version: which top-level sections and which
+ * settings they have, and which sections a log must have to be usable.
+ * Schemas are looked up by a log's ":version" in the {@link SchemaRegistry}.
+ */
+public final class SpoilerSchema {
+
+    private final String version; /* version prefix the schema was registered for, e.g. "6.2" */
+    private final Set<String> sections; /* top-level keys, in log order */
+    private final Set<String> settings; /* keys of the "settings" section, in log order */
+    private final String[] required;
+    private final Map<String, String> sectionByKey; /* KEYS alias canonical name -> top-level key */
+
+
+    /**
+     * @param version version prefix, e.g. "6.2" or "8"
+     * @param sections top-level keys of a log of this version
+     * @param settings keys of the "settings" section
+     * @param required top-level keys a log must have to be valid
+     */
+    public SpoilerSchema(String version, String[] sections, String[] settings, String[] required) {
+        this.version = version;
+        this.sections = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(sections)));
+        this.settings = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(settings)));
+        this.required = required.clone();
+
+        /* ":woth_locations" is asked for as "woth_locations" */
+        Map<String, String> byKey = new HashMap<>();
+        for (String section : sections) {
+            byKey.put(section.startsWith(":") ? section.substring(1) : section, section);
+        }
+        this.sectionByKey = Collections.unmodifiableMap(byKey);
+    }
+
+
+    /**
+     * @return version prefix the schema was registered for, e.g. "6.2"
+     */
+    public String version() {
+        return version;
+    }
+
+
+    /**
+     * @return every top-level key of a log of this version, in log order
+     */
+    public Set<String> sections() {
+        return sections;
+    }
+
+
+    /**
+     * @return every key of the "settings" section, in log order
+     */
+    public Set<String> settings() {
+        return settings;
+    }
+
+
+    /**
+     * @param section top-level key, e.g. ":playthrough"
+     * @return true if logs of this version have the section
+     */
+    public boolean isKnown(String section) {
+        return sections.contains(section);
+    }
+
+
+    /**
+     * Finds the top-level key a {@link Aliases.AliasType#KEYS} name refers to in this version.
+     * @param key canonical KEYS name, e.g. "woth_locations"
+     * @return the top-level key, e.g. ":woth_locations", or null if this version has no such section
+     */
+    public String section(String key) {
+        return sectionByKey.get(key);
+    }
+
+
+    /**
+     * Checks the top-level keys of a log against the schema.
+     * @param present top-level keys of the log, e.g. from {@link SpoilerSections#keys()}
+     * @return the required keys the log is missing, empty if it is valid
+     */
+    public List<String> missing(Collection<String> present) {
+        List<String> missing = new ArrayList<>();
+        for (String key : required) {
+            if (!present.contains(key)) {
+                missing.add(key);
+            }
+        }
+        return missing;
+    }
+}
@@ -0,0 +1,350 @@
+import org.json.simple.parser.ContainerFactory;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Index of the top-level sections of a spoiler log held as UTF-8 bytes.
+ *
+ * A single pass over the bytes records where the value of each top-level key starts and ends,
+ * without building any JSON objects. A section is only parsed when it is asked for, so a query
+ * that only needs "settings" never pays for parsing ":playthrough" or "gossip_stones".
+ */
+public class SpoilerSections {
+
+    private final ByteBuffer buffer; /* UTF-8 bytes of the whole spoiler log */
+
+    private final Map<String, int[]> offsets; /* top-level key -> {start, end} of its value */
+
+
+    /**
+     * Scans the top-level keys of a spoiler log.
+     * @param buffer UTF-8 encoded spoiler log, from its position to its limit
+     * @throws ParseException if the top level of the log is not a JSON object
+     */
+    public SpoilerSections(ByteBuffer buffer) throws ParseException {
+        this.buffer = buffer.slice();
+        this.offsets = Collections.unmodifiableMap(scan(this.buffer));
+    }
+
+
+    /**
+     * Memory-maps a spoiler log file and scans its top-level keys.
+     * @param path path of the spoiler log
+     * @return the sections of the log
+     */
+    public static SpoilerSections fromFile(Path path) throws IOException, ParseException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new SpoilerSections(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+
+    /**
+     * Memory-maps a private copy of a spoiler log file and scans its top-level keys, for a log that
+     * may be rewritten or truncated while it is loaded. A mapping of the file itself would see the
+     * new content, or fault when reading past its new end. The copy is deleted as soon as it is
+     * mapped where the platform allows it, and on exit otherwise.
+     * @param path path of the spoiler log
+     * @return the sections of the copy of the log
+     */
+    public static SpoilerSections fromCopy(Path path) throws IOException, ParseException {
+        Path copy = Files.createTempFile("spoiler-", ".json");
+        try {
+            Files.copy(path, copy, StandardCopyOption.REPLACE_EXISTING);
+            return fromFile(copy);
+        }
+        finally {
+            try {
+                Files.delete(copy);
+            }
+            catch (IOException e) {
+                /* Still mapped, e.g. on Windows */
+                copy.toFile().deleteOnExit();
+            }
+        }
+    }
+
+
+    /**
+     * Scans the top-level keys of a spoiler log that was pasted in as text.
+     * @param spoilerText the spoiler log
+     * @return the sections of the log
+     */
+    public static SpoilerSections fromString(String spoilerText) throws ParseException {
+        return new SpoilerSections(ByteBuffer.wrap(spoilerText.getBytes(StandardCharsets.UTF_8)));
+    }
+
+
+    /**
+     * @return every top-level key of the log, in the order they appear
+     */
+    public Set<String> keys() {
+        return offsets.keySet();
+    }
+
+
+    /**
+     * @param key top-level key, e.g. "settings" or ":playthrough"
+     * @return true if the log has a section for key
+     */
+    public boolean contains(String key) {
+        return offsets.containsKey(key);
+    }
+
+
+    /**
+     * Parses the value of a single top-level key.
+     * @param key top-level key, e.g. "settings" or ":playthrough"
+     * @return the parsed value (a JSONObject, JSONArray, String, Long, Double or Boolean),
+     *         or null if the log has no such key
+     * @throws ParseException if the section is not valid JSON
+     */
+    public Object parse(String key) throws ParseException {
+        return parse(key, null);
+    }
+
+
+    /**
+     * Parses the value of a single top-level key into containers made by a factory,
+     * such as one from {@link StringPool#containerFactory()}.
+     * @param key top-level key, e.g. "settings" or ":playthrough"
+     * @param factory factory for the parsed objects and arrays, or null for plain JSONObject and JSONArray
+     * @return the parsed value, or null if the log has no such key
+     * @throws ParseException if the section is not valid JSON
+     */
+    public Object parse(String key, ContainerFactory factory) throws ParseException {
+        int[] range = offsets.get(key);
+        if (range == null) {
+            return null;
+        }
+
+        try (Reader reader = new InputStreamReader(new ByteBufferInputStream(slice(range[0], range[1])),
+                StandardCharsets.UTF_8)) {
+            return new JSONParser().parse(reader, factory);
+        }
+        catch (IOException e) {
+            /* Reading from memory cannot fail */
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    /**
+     * Streams the value of a single top-level key through a handler, without building any objects.
+     * @param key top-level key, e.g. "locations"
+     * @param handler receives the section's values as they are read
+     * @return false if the log has no such key
+     * @throws ParseException if the section is not valid JSON
+     */
+    public boolean stream(String key, ContentHandler handler) throws ParseException {
+        int[] range = offsets.get(key);
+        if (range == null) {
+            return false;
+        }
+
+        try (Reader reader = new InputStreamReader(new ByteBufferInputStream(slice(range[0], range[1])),
+                StandardCharsets.UTF_8)) {
+            new JSONParser().parse(reader, handler);
+            return true;
+        }
+        catch (IOException e) {
+            /* Reading from memory cannot fail */
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    /**
+     * @param key top-level key
+     * @return length in bytes of the section's value, or -1 if the log has no such key
+     */
+    public int sectionLength(String key) {
+        int[] range = offsets.get(key);
+        return (range == null) ? -1 : range[1] - range[0];
+    }
+
+
+    private ByteBuffer slice(int start, int end) {
+        ByteBuffer slice = buffer.duplicate();
+        /* Call through Buffer so the class still links against Java 8's non-covariant methods */
+        ((Buffer)slice).limit(end);
+        ((Buffer)slice).position(start);
+        return slice.slice();
+    }
+
+
+    /*
+     * Records the value range of every key of the outermost JSON object.
+     * Nested values are skipped by matching brackets, only looking inside strings
+     * far enough to find their closing quote.
+     */
+    private static Map<String, int[]> scan(ByteBuffer buf) throws ParseException {
+        Map<String, int[]> offsets = new LinkedHashMap<>();
+        int limit = buf.limit();
+
+        int pos = skipWhitespace(buf, 0);
+        expect(buf, pos, '{');
+        pos = skipWhitespace(buf, pos + 1);
+        if (pos < limit && buf.get(pos) == '}') {
+            return offsets;
+        }
+
+        while (true) {
+            expect(buf, pos, '"');
+            int keyEnd = skipString(buf, pos);
+            String key = decodeKey(buf, pos, keyEnd);
+
+            pos = skipWhitespace(buf, keyEnd);
+            expect(buf, pos, ':');
+            int valueStart = skipWhitespace(buf, pos + 1);
+            int valueEnd = skipValue(buf, valueStart);
+            offsets.put(key, new int[] {valueStart, valueEnd});
+
+            pos = skipWhitespace(buf, valueEnd);
+            if (pos < limit && buf.get(pos) == ',') {
+                pos = skipWhitespace(buf, pos + 1);
+                continue;
+            }
+            expect(buf, pos, '}');
+            return offsets;
+        }
+    }
+
+
+    private static int skipWhitespace(ByteBuffer buf, int pos) {
+        while (pos < buf.limit()) {
+            byte b = buf.get(pos);
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+
+    /* pos is at an opening quote; returns the index just after the closing quote */
+    private static int skipString(ByteBuffer buf, int pos) throws ParseException {
+        for (int i = pos + 1; i < buf.limit(); i++) {
+            byte b = buf.get(i);
+            if (b == '\\') {
+                i++;
+            }
+            else if (b == '"') {
+                return i + 1;
+            }
+        }
+        throw new ParseException(pos, ParseException.ERROR_UNEXPECTED_EXCEPTION, "Unterminated string");
+    }
+
+
+    /* pos is at the first character of a value; returns the index just after it */
+    private static int skipValue(ByteBuffer buf, int pos) throws ParseException {
+        if (pos >= buf.limit()) {
+            throw new ParseException(pos, ParseException.ERROR_UNEXPECTED_TOKEN, null);
+        }
+
+        byte first = buf.get(pos);
+        if (first == '"') {
+            return skipString(buf, pos);
+        }
+
+        if (first == '{' || first == '[') {
+            int depth = 0;
+            for (int i = pos; i < buf.limit(); i++) {
+                byte b = buf.get(i);
+                if (b == '"') {
+                    i = skipString(buf, i) - 1;
+                }
+                else if (b == '{' || b == '[') {
+                    depth++;
+                }
+                else if (b == '}' || b == ']') {
+                    if (--depth == 0) {
+                        return i + 1;
+                    }
+                }
+            }
+            throw new ParseException(pos, ParseException.ERROR_UNEXPECTED_EXCEPTION, "Unterminated container");
+        }
+
+        /* Number, true, false or null */
+        int i = pos;
+        while (i < buf.limit()) {
+            byte b = buf.get(i);
+            if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+
+    private static String decodeKey(ByteBuffer buf, int start, int end) throws ParseException {
+        byte[] raw = new byte[end - start];
+        for (int i = 0; i < raw.length; i++) {
+            raw[i] = buf.get(start + i);
+        }
+
+        String quoted = new String(raw, StandardCharsets.UTF_8);
+        if (quoted.indexOf('\\') < 0) {
+            return quoted.substring(1, quoted.length() - 1);
+        }
+        return (String)new JSONParser().parse(quoted);
+    }
+
+
+    private static void expect(ByteBuffer buf, int pos, char c) throws ParseException {
+        if (pos >= buf.limit() || buf.get(pos) != c) {
+            Object found = (pos < buf.limit()) ? (char)buf.get(pos) : null;
+            throw new ParseException(pos, ParseException.ERROR_UNEXPECTED_CHAR, found);
+        }
+    }
+
+
+    /**
+     * Reads a ByteBuffer as a stream without copying it.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buf;
+
+        ByteBufferInputStream(ByteBuffer buf) {
+            this.buf = buf;
+        }
+
+        @Override
+        public int read() {
+            return buf.hasRemaining() ? (buf.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buf.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buf.remaining());
+            buf.get(b, off, n);
+            return n;
+        }
+    }
+}
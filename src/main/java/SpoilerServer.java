@@ -0,0 +1,190 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.simple.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * A local HTTP server answering spoiler log queries, so repeated queries skip JVM startup
+ * and the parse of the log.
+ *
+ * Queries are GET requests to /seed/{seed or file hash}/{key}/{world}/{subkey}, where every segment
+ * after the seed is one arg of {@link OOTRSpoiler#get}; e.g. /seed/HZHAYR708D/item_pool/1/hookshot.
+ * Logs are found through a {@link SpoilerStore}, which keeps the most recently queried ones parsed.
+ * Answers are kept in a {@link QueryCache}, and the answers of a log are dropped when the store
+ * lets go of its spoiler.
+ *
+ * The JDK's server writes the headers and body of a reply separately, so replies are only prompt
+ * when the JVM-wide "sun.net.httpserver.nodelay" property is set to true before the server starts;
+ * {@link Main} sets it, as a server should not change the properties of the JVM it runs in.
+ */
+public class SpoilerServer {
+
+    private static final String PREFIX = "/seed/";
+
+    private final SpoilerStore store;
+
+    private static final int QUERY_CACHE_SIZE = 4096;
+
+    private final QueryCache queries = new QueryCache(QUERY_CACHE_SIZE);
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+
+    /**
+     * @param store logs that can be queried; how many it keeps parsed is set when it is created
+     */
+    public SpoilerServer(SpoilerStore store) {
+        this.store = store;
+        store.addReleaseListener(queries::invalidate);
+    }
+
+
+    /**
+     * Starts listening on the loopback interface.
+     * @param port port to listen on, or 0 for any free port
+     * @return the port the server is listening on
+     */
+    public int start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext(PREFIX, this::handle);
+        executor = newExecutor();
+        server.setExecutor(executor);
+        server.start();
+        return server.getAddress().getPort();
+    }
+
+
+    /**
+     * Stops the server, waiting at most a second for requests in progress.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+
+    /**
+     * @return the answers kept by the server, with their hit and miss counts
+     */
+    public QueryCache queryCache() {
+        return queries;
+    }
+
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            answer(exchange);
+        }
+        catch (IllegalArgumentException e) {
+            respondIfUnanswered(exchange, 400, error(e.getMessage()));
+        }
+        catch (Throwable e) {
+            /* Errors too, e.g. InternalError from a mapped file that shrank, so no client is left waiting */
+            respondIfUnanswered(exchange, 500, error(e.toString()));
+        }
+        finally {
+            exchange.close();
+        }
+    }
+
+
+    private void answer(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            respond(exchange, 405, error("Only GET is supported"));
+            return;
+        }
+
+        String[] segments = exchange.getRequestURI().getRawPath().substring(PREFIX.length()).split("/");
+        if (segments.length < 2 || segments[0].isEmpty()) {
+            respond(exchange, 404, error("Expected " + PREFIX + "{seed}/{key}[/{world}][/{subkey}]"));
+            return;
+        }
+
+        OOTRSpoiler spoiler = store.spoiler(decode(segments[0]));
+        if (spoiler == null) {
+            respond(exchange, 404, error("No spoiler log loaded for seed " + decode(segments[0])));
+            return;
+        }
+
+        String[] args = new String[segments.length - 1];
+        for (int i = 1; i < segments.length; i++) {
+            args[i - 1] = decode(segments[i]);
+        }
+
+        String result = queries.get(spoiler, args);
+        if (result == null) {
+            respond(exchange, 404, error("Not a recognized key: " + args[0] + "."
+                    + AliasMatcher.didYouMean(Aliases.AliasType.KEYS, args[0])));
+        }
+        else {
+            respond(exchange, 200, result);
+        }
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private static String error(String message) {
+        JSONObject obj = new JSONObject();
+        obj.put("error", message);
+        return obj.toJSONString();
+    }
+
+
+    /**
+     * Replies with an error unless a reply was already started, in which case the exchange is only closed.
+     */
+    private static void respondIfUnanswered(HttpExchange exchange, int status, String body) throws IOException {
+        if (exchange.getResponseCode() == -1) {
+            respond(exchange, status, body);
+        }
+    }
+
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+
+    /**
+     * Decodes the percent-escapes of a path segment. URLDecoder decodes form data, where '+' stands
+     * for a space; in a path it is a literal '+', so it is escaped before decoding.
+     */
+    private static String decode(String segment) {
+        try {
+            return URLDecoder.decode(segment.replace("+", "%2B"), "UTF-8");
+        }
+        catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    /*
+     * Uses a virtual thread per request when the JDK has them (21 and newer), since requests mostly
+     * wait on I/O. Looked up reflectively because the project still compiles for Java 8.
+     */
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+        }
+    }
+}
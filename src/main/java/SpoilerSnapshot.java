@@ -0,0 +1,512 @@
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ContainerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+
+/**
+ * A binary copy of a parsed spoiler log, kept in a cache directory as "&lt;log&gt;-&lt;path checksum&gt;.snap".
+ *
+ * Snapshots are off unless the {@link #DIR_PROPERTY} system property names the cache directory, or
+ * they are turned on with {@link #setEnabled}, so nothing is written unasked, and never next to the logs.
+ *
+ * Parsing the JSON text is most of the cost of loading a log. The snapshot holds the same data
+ * with every distinct string written once in a string table, the value of every top-level section
+ * encoded as tagged binary values referring to that table, and the {@link PlacementTable} of the
+ * log, so loading it again only has to memory-map the file, read the string table and decode the
+ * sections that are used.
+ *
+ * A snapshot records the log's file_hash, :seed, size and CRC32 checksum. It is only used while
+ * the log it was made from is unchanged, and is otherwise ignored and replaced on the next load.
+ *
+ * Layout, big-endian:
+ * <pre>
+ * magic, format version                          int, int
+ * log size, log CRC32                            long, long
+ * file hash, seed                                string, string
+ * string table                                   int count, count strings
+ * section directory                              int count, count * (int key, int offset, int length)
+ * placement table                                see {@link #writePlacements}
+ * section data                                   tagged values, offsets relative to the start of the data
+ * </pre>
+ * A string is an int byte length followed by UTF-8 bytes, and a string reference is an int index
+ * into the string table.
+ */
+public final class SpoilerSnapshot {
+
+    private static final int MAGIC = 0x4F4F5452; /* "OOTR" */
+    private static final int FORMAT_VERSION = 1;
+
+    public static final String SUFFIX = ".snap";
+
+    public static final String DIR_PROPERTY = "snapshot.dir";
+
+    /* Tags of encoded values */
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte STRING = 5;
+    private static final byte OBJECT = 6;
+    private static final byte ARRAY = 7;
+
+    private static volatile boolean enabled = System.getProperty(DIR_PROPERTY) != null;
+
+    private static volatile Path directory = defaultDirectory();
+
+    private final ByteBuffer data; /* Encoded section values */
+    private final String[] strings; /* string table */
+    private final Map<String, int[]> sections; /* top-level key -> {offset, length} in data */
+    private final PlacementTable placements;
+    private final String fileHash;
+    private final String seed;
+
+
+    private SpoilerSnapshot(ByteBuffer data, String[] strings, Map<String, int[]> sections,
+                            PlacementTable placements, String fileHash, String seed) {
+        this.data = data;
+        this.strings = strings;
+        this.sections = sections;
+        this.placements = placements;
+        this.fileHash = fileHash;
+        this.seed = seed;
+    }
+
+
+    /**
+     * Turns reading and writing of snapshots on or off for every spoiler log loaded afterwards.
+     * Snapshots are off by default, unless the {@link #DIR_PROPERTY} system property is set.
+     *
+     * @param on true to use snapshots
+     */
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+
+    /**
+     * @return true if spoiler logs loaded from a path use snapshots
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+
+    /**
+     * Sets the directory snapshots are read from and written to.
+     * @param dir cache directory, created when the first snapshot is written
+     */
+    public static void setDirectory(Path dir) {
+        directory = dir;
+    }
+
+
+    /**
+     * @return the directory snapshots are read from and written to
+     */
+    public static Path directory() {
+        return directory;
+    }
+
+
+    /**
+     * Logs of the same name in different directories get different snapshots, told apart by
+     * a checksum of the log's absolute path.
+     * @param log path of a spoiler log
+     * @return path of the snapshot of that log
+     */
+    public static Path pathFor(Path log) {
+        CRC32 crc = new CRC32();
+        crc.update(log.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(log.getFileName() + "-" + Long.toHexString(crc.getValue()) + SUFFIX);
+    }
+
+
+    /* The directory named by DIR_PROPERTY, or a directory in the user's cache */
+    private static Path defaultDirectory() {
+        String configured = System.getProperty(DIR_PROPERTY);
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".cache", "ootrs-snapshots");
+    }
+
+
+    /**
+     * Opens the snapshot of a spoiler log, if there is one that matches the log's current content.
+     *
+     * @param log path of the spoiler log
+     * @param pool pool the strings of the snapshot are interned into
+     * @return the snapshot, or null if there is none, it was made from a different version of the log,
+     *         or it cannot be read
+     */
+    public static SpoilerSnapshot open(Path log, StringPool pool) throws IOException {
+        Path snap = pathFor(log);
+        if (!Files.isRegularFile(snap)) {
+            return null;
+        }
+
+        ByteBuffer buf = map(snap);
+        try {
+            if (buf.getInt() != MAGIC || buf.getInt() != FORMAT_VERSION) {
+                return null;
+            }
+            long size = buf.getLong();
+            long checksum = buf.getLong();
+            if (size != Files.size(log) || checksum != checksum(log)) {
+                return null;
+            }
+
+            String fileHash = readString(buf);
+            String seed = readString(buf);
+
+            String[] strings = new String[buf.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = pool.intern(readString(buf));
+            }
+
+            int sectionCount = buf.getInt();
+            Map<String, int[]> sections = new LinkedHashMap<>();
+            for (int i = 0; i < sectionCount; i++) {
+                sections.put(strings[buf.getInt()], new int[] {buf.getInt(), buf.getInt()});
+            }
+
+            PlacementTable placements = readPlacements(buf, strings);
+            return new SpoilerSnapshot(buf.slice(), strings, Collections.unmodifiableMap(sections),
+                    placements, fileHash, seed);
+        }
+        catch (RuntimeException e) {
+            /* Truncated or otherwise damaged, it gets rewritten from the log */
+            return null;
+        }
+    }
+
+
+    /**
+     * Writes the snapshot of a parsed spoiler log next to it, replacing any older snapshot.
+     * The file is written under a temporary name first, so a reader never sees half of it.
+     *
+     * @param log path of the spoiler log that was parsed
+     * @param spoiler every top-level section of the log
+     * @param placements placement table of the log
+     * @throws IOException if the snapshot cannot be written, e.g. the directory is read-only
+     */
+    public static void write(Path log, JSONObject spoiler, PlacementTable placements) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        ByteArrayOutputStream dataBytes = new ByteArrayOutputStream(1 << 16);
+        DataOutputStream data = new DataOutputStream(dataBytes);
+
+        Map<Integer, int[]> directory = new LinkedHashMap<>();
+        for (Object entryObj : spoiler.entrySet()) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>)entryObj;
+            int start = data.size();
+            writeValue(data, entry.getValue(), strings);
+            directory.put(stringId(String.valueOf(entry.getKey()), strings), new int[] {start, data.size() - start});
+        }
+
+        /* Placement names go in the same string table, so ask for their ids before writing it */
+        int[] locationIds = new int[placements.locationCount()];
+        for (int i = 0; i < locationIds.length; i++) {
+            locationIds[i] = stringId(placements.locationName(i), strings);
+        }
+        int[] itemIds = new int[placements.itemCount()];
+        for (int i = 0; i < itemIds.length; i++) {
+            itemIds[i] = stringId(placements.itemName(i), strings);
+        }
+
+        Path snap = pathFor(log);
+        Files.createDirectories(snap.toAbsolutePath().getParent());
+        Path tmp = Files.createTempFile(snap.toAbsolutePath().getParent(), snap.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(Files.size(log));
+                out.writeLong(checksum(log));
+                writeString(out, fileHashOf(spoiler));
+                writeString(out, String.valueOf(spoiler.get(":seed")));
+
+                out.writeInt(strings.size());
+                for (String s : strings.keySet()) {
+                    writeString(out, s);
+                }
+
+                out.writeInt(directory.size());
+                for (Map.Entry<Integer, int[]> entry : directory.entrySet()) {
+                    out.writeInt(entry.getKey());
+                    out.writeInt(entry.getValue()[0]);
+                    out.writeInt(entry.getValue()[1]);
+                }
+
+                writePlacements(out, placements, locationIds, itemIds);
+                dataBytes.writeTo(out);
+            }
+            Files.move(tmp, snap, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+
+    /**
+     * @return every top-level key of the log, in the order they appear
+     */
+    public Set<String> keys() {
+        return sections.keySet();
+    }
+
+
+    /**
+     * @param key top-level key, e.g. "settings" or ":playthrough"
+     * @return true if the log has a section for key
+     */
+    public boolean contains(String key) {
+        return sections.containsKey(key);
+    }
+
+
+    /**
+     * Decodes the value of a single top-level key into containers made by a factory,
+     * such as one from {@link StringPool#containerFactory()}.
+     * @param key top-level key, e.g. "settings" or ":playthrough"
+     * @param factory factory for the decoded objects and arrays
+     * @return the decoded value, or null if the log has no such key
+     */
+    public Object decode(String key, ContainerFactory factory) {
+        int[] range = sections.get(key);
+        if (range == null) {
+            return null;
+        }
+
+        ByteBuffer buf = data.duplicate();
+        ((Buffer)buf).position(range[0]);
+        return readValue(buf, factory);
+    }
+
+
+    /**
+     * @return the placement table stored in the snapshot
+     */
+    public PlacementTable placements() {
+        return placements;
+    }
+
+
+    /**
+     * @return the log's file_hash as joined by {@link SpoilerStore#fileHashId}, or "" if it has none
+     */
+    public String fileHash() {
+        return fileHash;
+    }
+
+
+    /**
+     * @return the log's :seed
+     */
+    public String seed() {
+        return seed;
+    }
+
+
+    /**
+     * Placement table layout: world count, location count, location string references,
+     * item count, item string references, then for every world its size followed by that many
+     * (int location id, int item id, byte player).
+     */
+    private static void writePlacements(DataOutputStream out, PlacementTable placements,
+                                        int[] locationIds, int[] itemIds) throws IOException {
+        out.writeInt(placements.worldCount());
+        out.writeInt(locationIds.length);
+        for (int id : locationIds) {
+            out.writeInt(id);
+        }
+        out.writeInt(itemIds.length);
+        for (int id : itemIds) {
+            out.writeInt(id);
+        }
+
+        for (int world = 1; world <= placements.worldCount(); world++) {
+            int size = placements.size(world);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeInt(placements.locationId(world, i));
+                out.writeInt(placements.itemId(world, i));
+                out.writeByte(placements.player(world, i));
+            }
+        }
+    }
+
+
+    private static PlacementTable readPlacements(ByteBuffer buf, String[] strings) {
+        int worldCount = buf.getInt();
+        String[] locationNames = new String[buf.getInt()];
+        for (int i = 0; i < locationNames.length; i++) {
+            locationNames[i] = strings[buf.getInt()];
+        }
+        String[] itemNames = new String[buf.getInt()];
+        for (int i = 0; i < itemNames.length; i++) {
+            itemNames[i] = strings[buf.getInt()];
+        }
+
+        int[][] locationIds = new int[worldCount][];
+        int[][] itemIds = new int[worldCount][];
+        byte[][] players = new byte[worldCount][];
+        for (int w = 0; w < worldCount; w++) {
+            int size = buf.getInt();
+            locationIds[w] = new int[size];
+            itemIds[w] = new int[size];
+            players[w] = new byte[size];
+            for (int i = 0; i < size; i++) {
+                locationIds[w][i] = buf.getInt();
+                itemIds[w][i] = buf.getInt();
+                players[w][i] = buf.get();
+            }
+        }
+        return new PlacementTable(locationNames, itemNames, locationIds, itemIds, players);
+    }
+
+
+    private static void writeValue(DataOutputStream out, Object value, Map<String, Integer> strings)
+            throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        }
+        else if (value instanceof Boolean) {
+            out.writeByte((Boolean)value ? TRUE : FALSE);
+        }
+        else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long)value);
+        }
+        else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double)value);
+        }
+        else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>)value;
+            out.writeByte(OBJECT);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                out.writeInt(stringId(String.valueOf(entry.getKey()), strings));
+                writeValue(out, entry.getValue(), strings);
+            }
+        }
+        else if (value instanceof List) {
+            List<?> list = (List<?>)value;
+            out.writeByte(ARRAY);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element, strings);
+            }
+        }
+        else {
+            out.writeByte(STRING);
+            out.writeInt(stringId(value.toString(), strings));
+        }
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private Object readValue(ByteBuffer buf, ContainerFactory factory) {
+        byte tag = buf.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case LONG:
+                return buf.getLong();
+            case DOUBLE:
+                return buf.getDouble();
+            case STRING:
+                return strings[buf.getInt()];
+            case OBJECT: {
+                int size = buf.getInt();
+                Map<Object, Object> map = factory.createObjectContainer();
+                for (int i = 0; i < size; i++) {
+                    String key = strings[buf.getInt()];
+                    map.put(key, readValue(buf, factory));
+                }
+                return map;
+            }
+            case ARRAY: {
+                int size = buf.getInt();
+                List<Object> list = factory.creatArrayContainer();
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(buf, factory));
+                }
+                return list;
+            }
+            default:
+                throw new IllegalStateException("Unknown value tag " + tag + " in spoiler snapshot");
+        }
+    }
+
+
+    private static int stringId(String s, Map<String, Integer> strings) {
+        Integer id = strings.get(s);
+        if (id == null) {
+            id = strings.size();
+            strings.put(s, id);
+        }
+        return id;
+    }
+
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+
+    private static String readString(ByteBuffer buf) {
+        byte[] bytes = new byte[buf.getInt()];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+
+    private static String fileHashOf(JSONObject spoiler) {
+        Object hash = spoiler.get("file_hash");
+        return (hash instanceof JSONArray) ? SpoilerStore.fileHashId((JSONArray)hash) : "";
+    }
+
+
+    private static long checksum(Path log) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(map(log));
+        return crc.getValue();
+    }
+
+
+    private static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
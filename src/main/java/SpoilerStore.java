@@ -0,0 +1,362 @@
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+
+
+/**
+ * Serves queries for many spoiler logs from one process.
+ *
+ * Each log is memory-mapped and only its top-level section offsets are kept on the heap.
+ * A query parses just the sections it touches from the mapped file. The spoilers of the
+ * {@link #DEFAULT_WARM} most recently queried logs are kept, so their parsed sections are reused
+ * by the next query; the sections of other logs are let go, so heap usage does not grow with the
+ * number of loaded seeds. A log is parsed by the first query that needs it, outside of any lock
+ * shared with other logs, and queries of the same log meanwhile wait for that parse.
+ * Release listeners are told of every spoiler let go, including that of a log reloaded or removed,
+ * e.g. to drop answers cached from it.
+ *
+ * A seed can be looked up either by its ":seed" value (e.g. "HZHAYR708D") or by its "file_hash"
+ * (e.g. "Bottled Milk, Megaton Hammer, Map, Hover Boots, Deku Nut"), ignoring case and punctuation.
+ */
+public class SpoilerStore {
+
+    public static final int DEFAULT_WARM = 16;
+
+    /**
+     * A loaded log and every id it is registered under.
+     */
+    private static final class Loaded {
+        private final SpoilerSections sections;
+        private final String seed; /* ":seed" value */
+        private final List<String> ids; /* seed id, then file hash id if the log has one */
+        private final Path path;
+
+        private Loaded(SpoilerSections sections, String seed, List<String> ids, Path path) {
+            this.sections = sections;
+            this.seed = seed;
+            this.ids = ids;
+            this.path = path;
+        }
+    }
+
+    private final Map<String, Loaded> logs = new ConcurrentHashMap<>(); /* seed or hash id -> log */
+
+    private final Map<Path, Loaded> byPath = new HashMap<>(); /* file -> log loaded from it, guarded by this */
+
+    private final Map<Loaded, FutureTask<OOTRSpoiler>> warm; /* log -> spoiler, least recently used first */
+
+    private final List<Consumer<OOTRSpoiler>> releaseListeners = new CopyOnWriteArrayList<>();
+
+
+    public SpoilerStore() {
+        this(DEFAULT_WARM);
+    }
+
+
+    /**
+     * @param warmSize how many logs keep their parsed sections between queries
+     */
+    public SpoilerStore(int warmSize) {
+        this.warm = new LinkedHashMap<Loaded, FutureTask<OOTRSpoiler>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Loaded, FutureTask<OOTRSpoiler>> eldest) {
+                if (size() > warmSize) {
+                    release(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+
+    /**
+     * Registers a listener told of every spoiler the store lets go of: once it leaves the most
+     * recently queried logs, or its log is reloaded, replaced or removed.
+     * @param listener called with the spoiler let go of
+     */
+    public void addReleaseListener(Consumer<OOTRSpoiler> listener) {
+        releaseListeners.add(listener);
+    }
+
+
+    /**
+     * Memory-maps a spoiler log and registers it under its seed and its file hash.
+     * A log with the same seed or file hash as one already loaded replaces it, as does a log
+     * loaded again from the same file; every id of the replaced log is dropped.
+     *
+     * @param path path of the spoiler log
+     * @return the ":seed" value of the log
+     * @throws IllegalArgumentException if the log has no ":seed"
+     */
+    public String load(Path path) throws IOException, ParseException {
+        return load(path, false);
+    }
+
+
+    /**
+     * Same as {@link #load(Path)}, optionally mapping a private copy of the log instead of the log
+     * itself, so the loaded log keeps being served while the file is rewritten or truncated.
+     *
+     * @param path path of the spoiler log
+     * @param copy true for a log that may change while it is loaded
+     * @return the ":seed" value of the log
+     * @throws IllegalArgumentException if the log has no ":seed"
+     */
+    public String load(Path path, boolean copy) throws IOException, ParseException {
+        SpoilerSections sections = copy ? SpoilerSections.fromCopy(path) : SpoilerSections.fromFile(path);
+
+        Object seed = sections.parse(":seed");
+        if (!(seed instanceof String)) {
+            throw new IllegalArgumentException(path + " is not a spoiler log with a seed.");
+        }
+
+        List<String> ids = new ArrayList<>();
+        ids.add(AliasIndex.normalize((String)seed));
+        Object fileHash = sections.parse("file_hash");
+        if (fileHash instanceof JSONArray) {
+            ids.add(fileHashId((JSONArray)fileHash));
+        }
+
+        Loaded log = new Loaded(sections, (String)seed, ids, path.toAbsolutePath().normalize());
+        synchronized (this) {
+            unregister(byPath.get(log.path));
+            for (String id : ids) {
+                unregister(logs.get(id));
+            }
+            for (String id : ids) {
+                logs.put(id, log);
+            }
+            byPath.put(log.path, log);
+        }
+
+        return (String)seed;
+    }
+
+
+    /**
+     * Unloads the log loaded from a file, e.g. once the file is deleted.
+     * @param path path the log was loaded from
+     * @return true if a log loaded from path was unloaded
+     */
+    public synchronized boolean remove(Path path) {
+        Loaded log = byPath.get(path.toAbsolutePath().normalize());
+        unregister(log);
+        return log != null;
+    }
+
+
+    /**
+     * @return the files every loaded log was loaded from
+     */
+    public synchronized Set<Path> paths() {
+        return Collections.unmodifiableSet(new HashSet<>(byPath.keySet()));
+    }
+
+
+    /**
+     * Drops every id of a log, unless another log has since taken it, and lets go of its spoiler.
+     */
+    private void unregister(Loaded log) {
+        if (log == null) {
+            return;
+        }
+        for (String id : log.ids) {
+            logs.remove(id, log);
+        }
+        byPath.remove(log.path, log);
+        FutureTask<OOTRSpoiler> task;
+        synchronized (warm) {
+            task = warm.remove(log);
+        }
+        release(task);
+    }
+
+
+    /**
+     * Loads every .json file directly inside a directory.
+     * Files that are not spoiler logs are skipped.
+     *
+     * @param dir directory containing spoiler logs
+     * @return how many logs were loaded
+     */
+    public int loadDirectory(Path dir) throws IOException {
+        int loaded = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.json")) {
+            for (Path file : files) {
+                try {
+                    load(file);
+                    loaded++;
+                }
+                catch (ParseException | IllegalArgumentException e) {
+                    System.out.println("Skipping " + file + ": " + e);
+                }
+            }
+        }
+        return loaded;
+    }
+
+
+    /**
+     * @param id seed or file hash of a loaded log
+     * @return true if such a log is loaded
+     */
+    public boolean contains(String id) {
+        return logs.containsKey(AliasIndex.normalize(id));
+    }
+
+
+    /**
+     * @return the ":seed" values of every loaded log
+     */
+    public Set<String> seeds() {
+        Set<String> seeds = new TreeSet<>();
+        for (Loaded log : logs.values()) {
+            seeds.add(log.seed);
+        }
+        return Collections.unmodifiableSet(seeds);
+    }
+
+
+    /**
+     * Resolves a seed or file hash to the ":seed" value of the loaded log it refers to.
+     * @param id seed or file hash of a loaded log
+     * @return the ":seed" of the log, or null if it is not loaded
+     */
+    public String seedOf(String id) {
+        Loaded log = logs.get(AliasIndex.normalize(id));
+        return (log == null) ? null : log.seed;
+    }
+
+
+    /**
+     * Returns the unparsed sections of a loaded log.
+     * @param id seed or file hash of a loaded log
+     * @return sections of the log, or null if it is not loaded
+     */
+    public SpoilerSections sections(String id) {
+        Loaded log = logs.get(AliasIndex.normalize(id));
+        return (log == null) ? null : log.sections;
+    }
+
+
+    /**
+     * Answers a query the same way {@link OOTRSpoiler#get} does, parsing only the sections it needs.
+     * The spoiler of a recently queried log is reused, along with the sections it already parsed.
+     *
+     * @param id seed or file hash of a loaded log
+     * @param args the query, see {@link OOTRSpoiler#get}
+     * @return the requested information, or null if args[0] is not a recognized key
+     * @throws IllegalArgumentException if no log with that id is loaded
+     */
+    public JSONObject get(String id, String[] args) {
+        OOTRSpoiler spoiler = spoiler(id);
+        if (spoiler == null) {
+            throw new IllegalArgumentException("No spoiler log loaded for seed " + id);
+        }
+        return spoiler.get(args);
+    }
+
+
+    /**
+     * Returns the spoiler of a loaded log, which is kept among the most recently queried logs.
+     * The first call for a log builds it; calls for the same log meanwhile wait for it, while
+     * calls for other logs go ahead.
+     *
+     * @param id seed or file hash of a loaded log
+     * @return the spoiler, or null if no log with that id is loaded
+     */
+    public OOTRSpoiler spoiler(String id) {
+        Loaded log = logs.get(AliasIndex.normalize(id));
+        if (log == null) {
+            return null;
+        }
+
+        FutureTask<OOTRSpoiler> task;
+        boolean build = false;
+        synchronized (warm) {
+            task = warm.get(log);
+            if (task == null) {
+                task = new FutureTask<>(() -> new OOTRSpoiler(log.sections));
+                warm.put(log, task);
+                build = true;
+            }
+        }
+        if (build) {
+            task.run();
+        }
+
+        try {
+            return task.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + id, e);
+        }
+        catch (ExecutionException e) {
+            /* Not kept, so the next query tries again */
+            synchronized (warm) {
+                warm.remove(log, task);
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error)e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+
+    /**
+     * Tells the release listeners of a spoiler let go of; one still being built was never handed out.
+     */
+    private void release(FutureTask<OOTRSpoiler> task) {
+        if (task == null || !task.isDone()) {
+            return;
+        }
+        try {
+            OOTRSpoiler spoiler = task.get();
+            for (Consumer<OOTRSpoiler> listener : releaseListeners) {
+                listener.accept(spoiler);
+            }
+        }
+        catch (InterruptedException | ExecutionException e) {
+            /* A build that failed left nothing to release */
+        }
+    }
+
+
+    /**
+     * Builds the lookup id of a file hash, e.g. "bottledmilkmegatonhammermaphoverbootsdekunut".
+     * @param fileHash "file_hash" value of a spoiler log
+     * @return normalized id of the hash
+     */
+    public static String fileHashId(JSONArray fileHash) {
+        StringBuilder sb = new StringBuilder();
+        for (Object icon : fileHash) {
+            sb.append(icon);
+        }
+        return AliasIndex.normalize(sb.toString());
+    }
+}
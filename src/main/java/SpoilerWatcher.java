@@ -0,0 +1,189 @@
+import org.json.simple.parser.ParseException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Keeps a {@link SpoilerStore} up to date with the .json files of a directory.
+ *
+ * Every log already in the directory, and every log created or changed in it afterwards, is loaded
+ * on a small pool of background threads and registered in the store. Each load only adds or replaces
+ * the entries of one seed, so queries for the other seeds carry on while it runs. A log that is
+ * deleted is unloaded.
+ *
+ * Logs are loaded from a private copy, so the loaded version of a log keeps answering queries while
+ * its file is rewritten, truncated or deleted, until the new version has been loaded.
+ *
+ * A tool writing a log produces several events for the same file while it writes. A load starts
+ * {@link #SETTLE_MILLIS} after the first of them, so a burst of events costs one load, and a log
+ * that was still incomplete is loaded again on its next change.
+ */
+public class SpoilerWatcher implements Closeable {
+
+    public static final long SETTLE_MILLIS = 250;
+
+    private final SpoilerStore store;
+
+    private final Path dir;
+
+    private final PathMatcher logFiles = FileSystems.getDefault().getPathMatcher("glob:*.json");
+
+    private final ScheduledExecutorService loaders;
+
+    private final Map<Path, Boolean> pending = new ConcurrentHashMap<>(); /* Absolute files with a load scheduled */
+
+    private final AtomicInteger loaded = new AtomicInteger();
+
+    private WatchService watchService;
+
+
+    /**
+     * @param store store the logs are registered in
+     * @param dir directory to watch
+     * @param threads how many logs to load at the same time
+     */
+    public SpoilerWatcher(SpoilerStore store, Path dir, int threads) {
+        this.store = store;
+        this.dir = dir;
+        this.loaders = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "spoiler-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+    /**
+     * Starts watching the directory and schedules a load of every log already in it.
+     * Returns without waiting for any log to be loaded.
+     */
+    public void start() throws IOException {
+        watchService = dir.getFileSystem().newWatchService();
+        dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        scheduleAll();
+
+        Thread thread = new Thread(this::watch, "spoiler-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+
+    /**
+     * Stops watching. Loads already running are finished, scheduled ones are dropped.
+     */
+    @Override
+    public void close() throws IOException {
+        loaders.shutdownNow();
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+
+    /**
+     * @return how many logs have been loaded so far, counting a reloaded log again
+     */
+    public int loadedCount() {
+        return loaded.get();
+    }
+
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        /* Events were dropped, so look at every file again */
+                        scheduleAll();
+                    }
+                    else {
+                        Path name = (Path)event.context();
+                        if (logFiles.matches(name)) {
+                            schedule(dir.resolve(name));
+                        }
+                    }
+                }
+                if (!key.reset()) {
+                    System.out.println("Stopped watching " + dir + ", it is no longer accessible");
+                    return;
+                }
+            }
+        }
+        catch (InterruptedException | ClosedWatchServiceException e) {
+            /* Closed */
+        }
+    }
+
+
+    private void scheduleAll() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.json")) {
+            for (Path file : files) {
+                schedule(file);
+            }
+        }
+        catch (IOException e) {
+            System.out.println("Could not list " + dir + ": " + e);
+        }
+        /* Logs deleted while events were dropped */
+        Path watched = dir.toAbsolutePath().normalize();
+        for (Path file : store.paths()) {
+            if (watched.equals(file.getParent()) && !Files.exists(file)) {
+                schedule(file);
+            }
+        }
+    }
+
+
+    /**
+     * Schedules a load of a log unless one is already waiting; the waiting load will see the latest content.
+     */
+    private void schedule(Path file) {
+        /* Events name files relative to dir, the store absolute; both must find the same waiting load */
+        Path absolute = file.toAbsolutePath().normalize();
+        if (pending.putIfAbsent(absolute, Boolean.TRUE) == null) {
+            loaders.schedule(() -> load(absolute), SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    private void load(Path file) {
+        /* Changes from now on need another load */
+        pending.remove(file);
+        try {
+            if (!Files.isRegularFile(file)) {
+                if (store.remove(file)) {
+                    System.out.println("Unloaded " + file + ", it was deleted");
+                }
+                return;
+            }
+
+            /* A copy, since the file can be rewritten or truncated while it is being served */
+            String seed = store.load(file, true);
+            loaded.incrementAndGet();
+            System.out.println("Loaded " + seed + " from " + file);
+        }
+        catch (IOException | ParseException | RuntimeException e) {
+            /* Reported here, since the executor would drop it silently */
+            System.out.println("Skipping " + file + ": " + e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ContainerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Deduplicates the names that repeat throughout a spoiler log.
+ *
+ * Item, location and region names appear many times in "locations", "item_pool", ":playthrough",
+ * ":woth_locations" and "gossip_stones", and json-simple creates a new String for each occurrence.
+ * A pool hands back one canonical instance per distinct string. Every pool shares a read-only set of
+ * the names in {@link Aliases} and {@link Keys}, so those are also shared between logs, and keeps
+ * any other string it meets in a table of its own that lives as long as the pool.
+ */
+public class StringPool {
+
+    private static final Map<String, String> SHARED = seed();
+
+    private final Map<String, String> local = new HashMap<>();
+
+
+    /**
+     * Returns the canonical instance of a string.
+     * @param s string to deduplicate
+     * @return a string equal to s, shared with every other equal string passed to this pool
+     */
+    public synchronized String intern(String s) {
+        String shared = SHARED.get(s);
+        if (shared != null) {
+            return shared;
+        }
+
+        String pooled = local.get(s);
+        if (pooled == null) {
+            local.put(s, s);
+            pooled = s;
+        }
+        return pooled;
+    }
+
+
+    /**
+     * Returns a json-simple container factory whose objects and arrays store every
+     * key and String value through this pool.
+     * @return factory to pass to JSONParser.parse
+     */
+    public ContainerFactory containerFactory() {
+        return new ContainerFactory() {
+            @Override
+            public Map<?, ?> createObjectContainer() {
+                return new PooledJSONObject();
+            }
+
+            @Override
+            public List<?> creatArrayContainer() {
+                return new PooledJSONArray();
+            }
+        };
+    }
+
+
+    private Object internValue(Object value) {
+        return (value instanceof String) ? intern((String)value) : value;
+    }
+
+
+    private static Map<String, String> seed() {
+        Map<String, String> names = new HashMap<>();
+        for (Aliases.AliasType type : Aliases.AliasType.values()) {
+            for (String[] group : Aliases.getAliases(type)) {
+                for (String alias : group) {
+                    names.put(alias, alias);
+                }
+            }
+        }
+        for (SpoilerSchema schema : SchemaRegistry.all()) {
+            for (String key : schema.sections()) {
+                names.put(key, key);
+            }
+            for (String key : schema.settings()) {
+                names.put(key, key);
+            }
+        }
+        return Collections.unmodifiableMap(names);
+    }
+
+
+    /**
+     * A JSONObject that pools its keys and String values as the parser fills it.
+     */
+    private class PooledJSONObject extends JSONObject {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object put(Object key, Object value) {
+            return super.put(internValue(key), internValue(value));
+        }
+    }
+
+
+    /**
+     * A JSONArray that pools its String elements as the parser fills it.
+     */
+    private class PooledJSONArray extends JSONArray {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean add(Object value) {
+            return super.add(internValue(value));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+
+/**
+ * Lookups of the precompiled alias index, which must agree with a scan of the alias tables.
+ */
+public class AliasIndexTest {
+
+    @Test
+    public void namesAreFoldedToLettersAndDigits() {
+        assertEquals("ralphieshole", AliasIndex.normalize("Ralphie's Hole"));
+        assertEquals("enabledistributionfile", AliasIndex.normalize("enable_distribution_file"));
+        assertEquals("", AliasIndex.normalize(" -_'"));
+    }
+
+
+    @Test
+    public void everyAliasResolvesLikeTheLinearScan() {
+        for (Aliases.AliasType type : Aliases.AliasType.values()) {
+            String[][] groups = Aliases.getAliases(type);
+            for (String[] group : groups) {
+                for (String alias : group) {
+                    String expected = scan(groups, alias);
+                    assertEquals(type + " " + alias, expected, AliasIndex.canonical(type, alias));
+                    assertEquals(type + " " + alias, expected, AliasIndex.canonical(type, alias.toUpperCase()));
+                }
+            }
+        }
+    }
+
+
+    @Test
+    public void knownAliases() {
+        assertEquals("enable_distribution_file", AliasIndex.canonical(Aliases.AliasType.KEYS, "edf"));
+        assertEquals("Progressive Hookshot", AliasIndex.canonical(Aliases.AliasType.ITEMS, "hookshot"));
+        assertEquals("DMT Cow Grotto", AliasIndex.canonical(Aliases.AliasType.SINGLE_EXIT, "Ralphie's hole"));
+        assertNull(AliasIndex.resolve(Aliases.AliasType.ITEMS, "no such item"));
+    }
+
+
+    /**
+     * The lookup the index replaced: a group's own canonical name first, otherwise the last group
+     * declared with the alias.
+     */
+    private static String scan(String[][] groups, String alias) {
+        String normalized = AliasIndex.normalize(alias);
+        String found = null;
+        for (String[] group : groups) {
+            if (AliasIndex.normalize(group[0]).equals(normalized)) {
+                return group[0];
+            }
+            for (String other : group) {
+                if (AliasIndex.normalize(other).equals(normalized)) {
+                    found = group[0];
+                }
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,72 @@
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Completion and typo-tolerant matching of aliases.
+ */
+public class AliasMatcherTest {
+
+    @Test
+    public void prefixesAreCompleted() {
+        List<AliasIndex.Entry> completed = AliasMatcher.complete(Aliases.AliasType.SINGLE_EXIT, "ralphie", 3);
+        assertEquals("DMT Cow Grotto", completed.get(0).canonical());
+        assertTrue(AliasMatcher.complete(Aliases.AliasType.ITEMS, "b", 2).size() <= 2);
+    }
+
+
+    @Test
+    public void typosAreMatched() {
+        List<AliasIndex.Entry> suggested = AliasMatcher.suggest(Aliases.AliasType.SINGLE_EXIT, "ralphis hole", 3);
+        assertEquals("DMT Cow Grotto", suggested.get(0).canonical());
+
+        assertEquals(" Did you mean \"Progressive Hookshot\"?",
+                AliasMatcher.didYouMean(Aliases.AliasType.ITEMS, "hookshto"));
+        assertEquals("", AliasMatcher.didYouMean(Aliases.AliasType.ITEMS, "qqqqqqqqqqqqqqqq"));
+        assertTrue(AliasMatcher.suggest(Aliases.AliasType.ITEMS, "", 3).isEmpty());
+    }
+
+
+    @Test
+    public void distanceMatchesTheMatrix() {
+        /* Covers both the bit-parallel path, up to 64 characters, and the matrix past it */
+        Random random = new Random(5);
+        String alphabet = "abcde\u00e9";
+        for (int i = 0; i < 2000; i++) {
+            String a = randomString(random, alphabet, random.nextInt(80));
+            String b = randomString(random, alphabet, random.nextInt(80));
+            assertEquals(a + " / " + b, levenshtein(a, b), AliasMatcher.distance(a, b));
+        }
+    }
+
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            for (int j = 0; j <= b.length(); j++) {
+                if (i == 0 || j == 0) {
+                    d[i][j] = i + j;
+                }
+                else {
+                    int substitute = d[i - 1][j - 1] + ((a.charAt(i - 1) == b.charAt(j - 1)) ? 0 : 1);
+                    d[i][j] = Math.min(substitute, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
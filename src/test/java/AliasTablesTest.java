@@ -0,0 +1,115 @@
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Alias tables loaded from their JSON files, from overrides, and from the binary cache.
+ */
+public class AliasTablesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+
+    private String[][] items;
+
+
+    @Before
+    public void setUp() {
+        /* Aliases loads its tables when first used, which must not be under the properties set here */
+        items = Aliases.getAliases(Aliases.AliasType.ITEMS);
+    }
+
+
+    @After
+    public void tearDown() {
+        System.clearProperty(AliasTables.DIR_PROPERTY);
+        System.clearProperty(AliasTables.CACHE_PROPERTY);
+    }
+
+
+    @Test
+    public void cachedTablesReadBackAsParsed() throws Exception {
+        Map<Aliases.AliasType, String[][]> parsed = AliasTables.load();
+        Path cache = folder.getRoot().toPath().resolve("aliases.bin");
+        System.setProperty(AliasTables.CACHE_PROPERTY, cache.toString());
+
+        assertTablesEqual(parsed, AliasTables.load());
+        assertTrue(Files.isRegularFile(cache));
+        assertTablesEqual(parsed, AliasTables.load());
+
+        /* A damaged cache is parsed again and rewritten */
+        try (RandomAccessFile file = new RandomAccessFile(cache.toFile(), "rw")) {
+            file.setLength(file.length() / 2);
+        }
+        assertTablesEqual(parsed, AliasTables.load());
+        assertTablesEqual(parsed, AliasTables.load());
+    }
+
+
+    @Test
+    public void cacheIsReadWhileItsSourcesAreUnchanged() throws Exception {
+        Path cache = folder.getRoot().toPath().resolve("aliases.bin");
+        System.setProperty(AliasTables.CACHE_PROPERTY, cache.toString());
+        AliasTables.load();
+
+        /* Keep the header, with its checksum of the sources, and replace the tables */
+        byte[] header = Arrays.copyOf(Files.readAllBytes(cache), 16);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(cache))) {
+            out.write(header);
+            for (Aliases.AliasType type : Aliases.AliasType.values()) {
+                out.writeInt((type == Aliases.AliasType.KEYS) ? 1 : 0);
+                if (type == Aliases.AliasType.KEYS) {
+                    out.writeInt(2);
+                    out.writeUTF("cached");
+                    out.writeUTF("alias");
+                }
+            }
+        }
+        assertArrayEquals(new String[][] {{"cached", "alias"}}, AliasTables.load().get(Aliases.AliasType.KEYS));
+
+        /* An override changes the sources, so the cache is out of date */
+        Path dir = folder.newFolder("overrides").toPath();
+        Files.write(dir.resolve("items.json"),
+                "{\"Progressive Hookshot\": [\"hooky\"], \"New Item\": [\"new\"]}".getBytes(StandardCharsets.UTF_8));
+        System.setProperty(AliasTables.DIR_PROPERTY, dir.toString());
+        Map<Aliases.AliasType, String[][]> overridden = AliasTables.load();
+        assertFalse(overridden.get(Aliases.AliasType.KEYS).length == 1);
+
+        String[][] merged = overridden.get(Aliases.AliasType.ITEMS);
+        assertEquals(items.length + 1, merged.length);
+        assertArrayEquals(new String[] {"New Item", "new"}, merged[merged.length - 1]);
+        for (int g = 0; g < items.length; g++) {
+            /* Names keep their place, and an added alias goes at the end of its group */
+            assertEquals(items[g][0], merged[g][0]);
+            if (items[g][0].equals("Progressive Hookshot")) {
+                assertEquals("hooky", merged[g][merged[g].length - 1]);
+            }
+        }
+    }
+
+
+    private static void assertTablesEqual(Map<Aliases.AliasType, String[][]> expected,
+                                          Map<Aliases.AliasType, String[][]> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Aliases.AliasType type : Aliases.AliasType.values()) {
+            assertArrayEquals(type.toString(), expected.get(type), actual.get(type));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+import org.json.simple.parser.JSONParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+/**
+ * Logs exported to the columnar format and read back.
+ */
+public class ColumnarExportTest {
+
+    private static final Path SAMPLE = Paths.get("samplespoilers", "multiworldv8.json");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+
+    @Test
+    public void rowsReadBackAsTheyWereInTheLogs() throws Exception {
+        Path generated = folder.getRoot().toPath().resolve("generated.json");
+        new SpoilerGenerator(1, 40, 3, 5, 7).write(generated);
+        Path out = folder.getRoot().toPath().resolve("export.bin");
+
+        /* seed -> "world/location" -> "item/player", and seed -> setting -> value */
+        Map<String, Map<String, String>> expectedLocations = new HashMap<>();
+        Map<String, Map<String, String>> expectedSettings = new HashMap<>();
+        long expectedRows = 0;
+        for (Path log : Arrays.asList(SAMPLE, generated)) {
+            JSONObject json = read(log);
+            String seed = (String)json.get(":seed");
+            Map<String, String> locations = new HashMap<>();
+            JSONObject section = (JSONObject)json.get("locations");
+            boolean multiworld = section.containsKey("World 1");
+            for (int world = 1; world <= (multiworld ? section.size() : 1); world++) {
+                JSONObject placements = multiworld ? (JSONObject)section.get("World " + world) : section;
+                for (Object entryObj : placements.entrySet()) {
+                    Map.Entry<?, ?> entry = (Map.Entry<?, ?>)entryObj;
+                    Object value = entry.getValue();
+                    String item = (value instanceof JSONObject) ? (String)((JSONObject)value).get("item") : (String)value;
+                    Object player = (value instanceof JSONObject) ? ((JSONObject)value).get("player") : null;
+                    locations.put(world + "/" + entry.getKey(), item + "/" + ((player == null) ? world : player));
+                }
+            }
+            expectedRows += locations.size();
+            expectedLocations.put(seed, locations);
+
+            Map<String, String> settings = new HashMap<>();
+            for (Object entryObj : ((JSONObject)json.get("settings")).entrySet()) {
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>)entryObj;
+                Object value = entry.getValue();
+                settings.put((String)entry.getKey(), (value instanceof String) ? (String)value : JSONValue.toJSONString(value));
+            }
+            expectedSettings.put(seed, settings);
+        }
+        assertEquals(expectedRows, ColumnarExport.write(Arrays.asList(SAMPLE, generated), out));
+
+        final Map<String, Map<String, String>> locations = new HashMap<>();
+        final Map<String, Map<String, String>> settings = new HashMap<>();
+        ColumnarExport.read(out, new ColumnarExport.Rows() {
+            @Override
+            public void location(String seed, int world, String location, String item, int player) {
+                locations.computeIfAbsent(seed, s -> new HashMap<>()).put(world + "/" + location, item + "/" + player);
+            }
+
+            @Override
+            public void setting(String seed, String key, String value) {
+                settings.computeIfAbsent(seed, s -> new HashMap<>()).put(key, value);
+            }
+        });
+        assertEquals(expectedLocations, locations);
+        assertEquals(expectedSettings, settings);
+    }
+
+
+    @Test
+    public void damagedFilesAreRejected() throws Exception {
+        Path out = folder.getRoot().toPath().resolve("export.bin");
+        ColumnarExport.write(Collections.singletonList(SAMPLE), out);
+        byte[] bytes = Files.readAllBytes(out);
+
+        /* Cut anywhere, a file either still reads, when cut between blocks, or is reported damaged */
+        Path cut = folder.getRoot().toPath().resolve("cut.bin");
+        int damaged = 0;
+        for (int length = 8; length < bytes.length; length += 1 + length / 64) {
+            Files.write(cut, Arrays.copyOf(bytes, length));
+            try {
+                ColumnarExport.read(cut, new IgnoredRows());
+            }
+            catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage(), e.getMessage().endsWith(" is damaged."));
+                damaged++;
+            }
+        }
+        assertTrue(damaged > 0);
+
+        Files.write(cut, Arrays.copyOf(bytes, 4));
+        try {
+            ColumnarExport.read(cut, new IgnoredRows());
+            fail("Too short to be an export");
+        }
+        catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().endsWith(" is not a columnar export."));
+        }
+    }
+
+
+    @Test
+    public void logsWithoutASeedAreRejected() throws Exception {
+        JSONObject log = read(SAMPLE);
+        log.remove(":seed");
+        Path unseeded = folder.getRoot().toPath().resolve("unseeded.json");
+        Files.write(unseeded, log.toJSONString().getBytes(StandardCharsets.UTF_8));
+        Path out = folder.getRoot().toPath().resolve("export.bin");
+
+        try {
+            ColumnarExport.write(Arrays.asList(SAMPLE, unseeded), out);
+            fail("Rows without a seed cannot be told apart");
+        }
+        catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains(":seed"));
+        }
+        assertFalse(Files.exists(out));
+        assertEquals(1, folder.getRoot().list().length);
+    }
+
+
+    private static JSONObject read(Path log) throws Exception {
+        try (Reader reader = Files.newBufferedReader(log, StandardCharsets.UTF_8)) {
+            return (JSONObject)new JSONParser().parse(reader);
+        }
+    }
+
+
+    private static class IgnoredRows implements ColumnarExport.Rows {
+
+        @Override
+        public void location(String seed, int world, String location, String item, int player) {
+        }
+
+        @Override
+        public void setting(String seed, String key, String value) {
+        }
+    }
+}
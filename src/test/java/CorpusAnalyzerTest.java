@@ -0,0 +1,51 @@
+import org.json.simple.JSONObject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Statistics over a directory of logs, some of which cannot be read.
+ */
+public class CorpusAnalyzerTest {
+
+    private static final Path SAMPLE = Paths.get("samplespoilers", "multiworldv8.json");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+
+    @Test
+    public void damagedLogsAddNothing() throws Exception {
+        Path dir = folder.newFolder("logs").toPath();
+        Files.copy(SAMPLE, dir.resolve("sample.json"));
+        CorpusAnalyzer analyzer = new CorpusAnalyzer("hookshot", Collections.<String, String>emptyMap());
+        JSONObject expected = analyzer.analyze(dir, 2);
+        assertEquals(1L, expected.get("matched"));
+        assertEquals(2L, expected.get("worlds"));
+
+        /* Sections are found, but "locations" fails after World 1 has been counted */
+        String text = new String(Files.readAllBytes(SAMPLE), StandardCharsets.UTF_8);
+        int world2 = text.indexOf("\"World 2\"", text.indexOf("\"locations\""));
+        int item = text.indexOf("\"item\": ", world2);
+        String damaged = text.substring(0, item) + "\"item\": damaged, \"x\": " + text.substring(item + 8);
+        Files.write(dir.resolve("damaged.json"), damaged.getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("truncated.json"), text.substring(0, text.length() / 2).getBytes(StandardCharsets.UTF_8));
+
+        JSONObject report = analyzer.analyze(dir, 2);
+        assertEquals(3L, report.get("logs"));
+        assertEquals(2L, report.get("skipped"));
+        assertEquals(1L, report.get("matched"));
+        assertEquals(expected.get("worlds"), report.get("worlds"));
+        assertEquals(expected.get("item_in_dungeon"), report.get("item_in_dungeon"));
+        assertEquals(expected.get("barren_regions"), report.get("barren_regions"));
+    }
+}
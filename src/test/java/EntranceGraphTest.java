@@ -0,0 +1,68 @@
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+/**
+ * Routes through the shuffled entrances of one world.
+ */
+public class EntranceGraphTest {
+
+    private static final String ENTRANCES = "{"
+            + "\"Kokiri Forest -> Lost Woods\": {\"region\": \"Lost Woods\", \"from\": \"Kokiri Forest\"},"
+            + "\"Zoras River -> LW Underwater Entrance\": {\"region\": \"LW Underwater Entrance\", \"from\": \"Zoras River\"},"
+            + "\"Lost Woods -> GC Woods Warp\": {\"region\": \"Goron City\", \"from\": \"GC Woods Warp\"},"
+            + "\"Child Spawn -> KF Links House\": \"KF Links House\"}";
+
+
+    @Test
+    public void routesTakeTheFewestEntrances() throws Exception {
+        EntranceGraph graph = EntranceGraph.build(parse(ENTRANCES), false);
+        List<String[]> route = graph.route("kf", "Goron City");
+        assertEquals(2, route.size());
+        assertArrayEquals(new String[] {"Kokiri Forest -> Lost Woods", "Lost Woods"}, route.get(0));
+        assertArrayEquals(new String[] {"Lost Woods -> GC Woods Warp", "Goron City"}, route.get(1));
+        assertTrue(graph.route("Lost Woods", "Lost Woods").isEmpty());
+
+        /* Coupled entrances lead back, except one-way ones such as spawns */
+        assertEquals(2, graph.route("Goron City", "Kokiri Forest").size());
+        assertEquals(1, graph.route("Child Spawn", "KF Links House").size());
+        assertNull(graph.route("KF Links House", "Child Spawn"));
+
+        /* Decoupled entrances never lead back */
+        assertNull(EntranceGraph.build(parse(ENTRANCES), true).route("Goron City", "Kokiri Forest"));
+    }
+
+
+    @Test
+    public void regionsAreKeptApartByTheirLogNames() throws Exception {
+        EntranceGraph graph = EntranceGraph.build(parse(ENTRANCES), false);
+        assertEquals(7, graph.regionCount());
+        assertEquals("Kokiri Forest", graph.regionName("kf"));
+        assertEquals("Lost Woods", graph.regionName("lost woods"));
+        assertEquals("LW Underwater Entrance", graph.regionName("LW Underwater Entrance"));
+        assertNull(graph.route("Lost Woods", "LW Underwater Entrance"));
+
+        try {
+            graph.route("Kokiri Forest", "Death Mountain Crater");
+            fail("Death Mountain Crater has no shuffled entrance");
+        }
+        catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("Death Mountain Crater"));
+        }
+        assertEquals(0, EntranceGraph.build(null, false).regionCount());
+    }
+
+
+    private static JSONObject parse(String json) throws Exception {
+        return (JSONObject)new JSONParser().parse(json);
+    }
+}
@@ -0,0 +1,65 @@
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Phrase, alias and world searches over gossip stone hints.
+ */
+public class HintIndexTest {
+
+    private static final String WORLD_1 = "{"
+            + "\"DMT (Biggoron)\": {\"text\": \"They say that #Kakariko Village# holds #Progressive Hookshot#.\","
+            + "    \"colors\": [\"Red\"], \"hinted_locations\": [\"Kak 40 Skulltula Reward\"],"
+            + "    \"hinted_items\": [\"Progressive Hookshot\"]},"
+            + "\"GV (Waterfall)\": {\"text\": \"They say that the #Temple of Time# is on the way to #Shadow Temple#.\","
+            + "    \"colors\": [\"Red\", \"Pink\"]},"
+            + "\"ZR (Front)\": {\"text\": \"They say that the #Shadow of the Temple# is barren.\"}}";
+
+    private static final String WORLD_2 = "{"
+            + "\"DMT (Biggoron)\": {\"text\": \"They say that #the ranch# hides #something useful#.\","
+            + "    \"hinted_locations\": [\"LLR Talons Chickens\"], \"hinted_items\": [\"Progressive Hookshot\"]}}";
+
+
+    @Test
+    public void phrasesAndAliasesAreFound() throws Exception {
+        HintIndex index = HintIndex.build(parse("{\"World 1\": " + WORLD_1 + ", \"World 2\": " + WORLD_2 + "}"), 2);
+        assertEquals(4, index.size());
+
+        /* Both words appear in two stones, but as the phrase in one */
+        int[] shadowTemple = index.search("Shadow Temple", 0);
+        assertEquals(1, shadowTemple.length);
+        assertEquals("GV (Waterfall)", index.name(shadowTemple[0]));
+
+        /* An alias of the hinted item finds stones that only name where it is */
+        int[] hookshot = index.search("hookshot", 0);
+        assertEquals(2, hookshot.length);
+        assertEquals(1, index.world(hookshot[0]));
+        assertEquals(2, index.world(hookshot[1]));
+        assertEquals("LLR Talons Chickens",
+                ((Iterable<?>)index.hint(hookshot[1]).get("hinted_locations")).iterator().next());
+
+        assertArrayEquals(new int[] {hookshot[1]}, index.search("hookshot", 2));
+        assertEquals(2, index.search("Biggoron", 0).length);
+        assertEquals(0, index.search("Kak 40 Skulltula", 2).length);
+        assertEquals(1, index.search("Kak 40 Skulltula", 1).length);
+        assertEquals(0, index.search("nothing like this", 0).length);
+    }
+
+
+    @Test
+    public void singleWorldStonesAreTheSectionItself() throws Exception {
+        HintIndex index = HintIndex.build(parse(WORLD_1), 1);
+        assertEquals(3, index.size());
+        assertEquals(1, index.search("temple of time", 1).length);
+        assertEquals(0, HintIndex.build(null, 1).size());
+    }
+
+
+    private static JSONObject parse(String json) throws Exception {
+        return (JSONObject)new JSONParser().parse(json);
+    }
+}
@@ -0,0 +1,65 @@
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+
+/**
+ * Per-world work, while the pool it runs on is replaced.
+ */
+public class IndexBuilderTest {
+
+    private final int defaultParallelism = IndexBuilder.getParallelism();
+
+
+    @After
+    public void tearDown() {
+        IndexBuilder.setParallelism(defaultParallelism);
+    }
+
+
+    @Test
+    public void resultsAreInWorldOrder() {
+        IndexBuilder.setParallelism(3);
+        List<Integer> results = IndexBuilder.perWorld(8, world -> world * 10);
+        for (int w = 1; w <= 8; w++) {
+            assertEquals(Integer.valueOf(w * 10), results.get(w - 1));
+        }
+        assertEquals(0, IndexBuilder.perWorld(-1, world -> world).size());
+    }
+
+
+    @Test
+    public void changingParallelismDoesNotRejectWork() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread resizer = new Thread(() -> {
+            int parallelism = 2;
+            while (running.get()) {
+                IndexBuilder.setParallelism(parallelism);
+                parallelism = (parallelism == 2) ? 3 : 2;
+            }
+        });
+        resizer.start();
+        try {
+            for (int i = 0; i < 2000 && failure.get() == null; i++) {
+                try {
+                    assertEquals(4, IndexBuilder.perWorld(4, world -> world).size());
+                }
+                catch (RuntimeException e) {
+                    failure.set(e);
+                }
+            }
+        }
+        finally {
+            running.set(false);
+            resizer.join();
+        }
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,71 @@
+import org.json.simple.JSONValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Query results printed as indented text.
+ */
+public class JsonPrinterTest {
+
+    @Test
+    public void nestingIsIndented() {
+        Map<String, Object> placement = new LinkedHashMap<>();
+        placement.put("item", "Bombchus (5)");
+        placement.put("player", 2L);
+        Map<String, Object> world = new LinkedHashMap<>();
+        world.put("Kokiri Sword Chest", placement);
+        world.put("KF Midos Top Left Chest", "Rupees (5)");
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("World 1", world);
+        result.put("woth", Arrays.asList("Kokiri Forest", Collections.singletonMap("region", "Lost Woods")));
+        result.put("empty", Collections.emptyMap());
+        result.put("none", Collections.emptyList());
+        result.put("missing", null);
+
+        assertEquals("\"World 1\":\n"
+                + "    \"Kokiri Sword Chest\":\n"
+                + "        \"item\": \"Bombchus (5)\"\n"
+                + "        \"player\": 2\n"
+                + "    \"KF Midos Top Left Chest\": \"Rupees (5)\"\n"
+                + "\"woth\":\n"
+                + "    - \"Kokiri Forest\"\n"
+                + "    -\n"
+                + "        \"region\": \"Lost Woods\"\n"
+                + "\"empty\": {}\n"
+                + "\"none\": []\n"
+                + "\"missing\": null", JsonPrinter.toString(result));
+    }
+
+
+    @Test
+    public void scalarsPrintAlone() {
+        assertEquals("\"Kokiri Sword\"", JsonPrinter.toString("Kokiri Sword"));
+        assertEquals("1.5", JsonPrinter.toString(1.5));
+        assertEquals("true", JsonPrinter.toString(true));
+        assertEquals("null", JsonPrinter.toString(null));
+        assertEquals("", JsonPrinter.toString(Collections.emptyMap()));
+    }
+
+
+    @Test
+    public void stringsAreEscapedAsInJson() {
+        assertEquals("\"a\\\"b\\\\c\\nd\\u0001\"", JsonPrinter.toString("a\"b\\c\nd\u0001"));
+
+        Random random = new Random(3);
+        for (int i = 0; i < 1000; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int c = random.nextInt(12); c > 0; c--) {
+                sb.append((char)random.nextInt(0x80));
+            }
+            assertEquals(sb.toString(), JSONValue.parse(JsonPrinter.toString(sb.toString())));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+/**
+ * Loading of spoiler logs that do not match their version's schema.
+ */
+public class OOTRSpoilerTest {
+
+    private static final Path SAMPLE = Paths.get("samplespoilers", "multiworldv8.json");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File snapshots;
+
+    private Path defaultDirectory;
+
+
+    @Before
+    public void setUp() throws Exception {
+        /* A full parse writes a snapshot, which is where an invalid log used to fail */
+        snapshots = folder.newFolder("snapshots");
+        defaultDirectory = SpoilerSnapshot.directory();
+        SpoilerSnapshot.setDirectory(snapshots.toPath());
+        SpoilerSnapshot.setEnabled(true);
+    }
+
+
+    @After
+    public void tearDown() {
+        SpoilerSnapshot.setEnabled(false);
+        SpoilerSnapshot.setDirectory(defaultDirectory);
+    }
+
+
+    @Test
+    public void invalidLogLoadsAndAnswers() throws Exception {
+        JSONObject log = readSample();
+        log.remove(":settings_string");
+        Path path = write(log, "invalid.json");
+
+        for (boolean lazy : new boolean[] {false, true}) {
+            OOTRSpoiler spoiler = new OOTRSpoiler(path.toString(), true, lazy);
+            assertFalse(spoiler.isValid());
+            assertEquals(-1, spoiler.getWorldCount());
+            assertEquals(Collections.singletonList(":settings_string"), spoiler.getMissingKeys());
+
+            /* Sections that do not depend on the world layout still answer; placements are refused */
+            assertEquals("HZHAYR708D", spoiler.get(new String[] {"seed"}).get(":seed"));
+            try {
+                spoiler.get(new String[] {"where", "hookshot"});
+                fail("An invalid log has no placements");
+            }
+            catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage().contains(":settings_string"));
+            }
+        }
+        assertEquals(0, snapshots.list().length);
+    }
+
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void requiredKeysDependOnVersion() throws Exception {
+        /* v8 logs have no "starting_items", which a 6.2 log must have */
+        JSONObject log = readSample();
+        log.remove("starting_items");
+        assertTrue(new OOTRSpoiler(write(log, "v8.json").toString(), true, false).isValid());
+
+        log.put(":version", "6.2.0");
+        assertFalse(new OOTRSpoiler(write(log, "v6.json").toString(), true, false).isValid());
+    }
+
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void unknownSectionsStayReachable() throws Exception {
+        JSONObject log = readSample();
+        JSONObject future = new JSONObject();
+        future.put("a", 1L);
+        log.put("future_section", future);
+        Path path = write(log, "future.json");
+
+        /* A full parse, which writes a snapshot, a load from that snapshot, and a lazy load */
+        for (boolean lazy : new boolean[] {false, false, true}) {
+            OOTRSpoiler spoiler = new OOTRSpoiler(path.toString(), true, lazy);
+            assertTrue(spoiler.isValid());
+            assertEquals(future, spoiler.getKey("future_section"));
+            assertEquals(2, spoiler.getWorldCount());
+        }
+        assertEquals(1, snapshots.list().length);
+    }
+
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void unknownVersionIsReadAsTheNewest() throws Exception {
+        JSONObject log = readSample();
+        log.put(":version", "7.1.0 Release");
+        OOTRSpoiler spoiler = new OOTRSpoiler(write(log, "v7.json").toString(), true, false);
+        assertFalse(spoiler.hasKnownVersion());
+        assertEquals("8", spoiler.getSchema().version());
+        assertTrue(spoiler.isValid());
+
+        assertTrue(new OOTRSpoiler(SAMPLE.toString(), true, false).hasKnownVersion());
+        assertFalse(SchemaRegistry.isKnown(null));
+        assertEquals("6.2", SchemaRegistry.forVersion("6.2.0").version());
+    }
+
+
+    private static JSONObject readSample() throws Exception {
+        try (Reader reader = Files.newBufferedReader(SAMPLE, StandardCharsets.UTF_8)) {
+            return (JSONObject)new JSONParser().parse(reader);
+        }
+    }
+
+
+    private Path write(JSONObject log, String name) throws Exception {
+        Path path = folder.getRoot().toPath().resolve(name);
+        Files.write(path, log.toJSONString().getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+}
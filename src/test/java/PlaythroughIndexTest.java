@@ -0,0 +1,67 @@
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Sphere lookups of the item and entrance playthroughs.
+ */
+public class PlaythroughIndexTest {
+
+    @Test
+    public void itemsAreFoundBySphereWorldAndAlias() throws Exception {
+        PlaythroughIndex index = PlaythroughIndex.build(parse("{"
+                + "\"0\": {\"Links Pocket [W1]\": {\"item\": \"Kokiri Sword\", \"player\": 1},"
+                + "        \"Links Pocket [W2]\": {\"item\": \"Bottle\", \"player\": 2}},"
+                + "\"2\": {\"KF Midos Top Left Chest [W2]\": {\"item\": \"Progressive Hookshot\", \"player\": 1}},"
+                + "\"1\": {\"Deku Tree Map Chest [W1]\": {\"item\": \"Progressive Hookshot\", \"player\": 2}}}"),
+                "item", 2);
+
+        assertEquals(4, index.size());
+        int[] sphere0 = index.inSphere(0, 0);
+        assertEquals(2, sphere0.length);
+        assertEquals("Links Pocket [W1]", index.name(sphere0[0]));
+        assertEquals("Bottle", index.value(index.inSphere(0, 2)[0]));
+        assertEquals(0, index.inSphere(3, 0).length);
+
+        /* Any alias of the item, earliest sphere first */
+        int[] hookshots = index.findValue("longshot", 0);
+        assertEquals(2, hookshots.length);
+        assertEquals(1, index.sphere(hookshots[0]));
+        assertEquals(2, index.sphere(hookshots[1]));
+        assertArrayEquals(new int[] {hookshots[1]}, index.findValue("hookshot", 1));
+
+        assertEquals(1, index.findName("Links Pocket", 2).length);
+        assertEquals(2, index.findName("links pocket", 0).length);
+    }
+
+
+    @Test
+    public void regionsAreKeyedByTheirLogName() throws Exception {
+        PlaythroughIndex index = PlaythroughIndex.build(parse("{"
+                + "\"1\": {\"KF Outside Deku Tree -> Deku Tree Lobby\": {\"region\": \"Lost Woods\", \"from\": \"Kokiri Forest\"},"
+                + "        \"Zora River -> LW Underwater Entrance\": {\"region\": \"Kokiri Forest\", \"from\": \"Lost Woods\"}},"
+                + "\"2\": {\"Lost Woods -> Zoras Domain\": {\"region\": \"LW Underwater Entrance\", \"from\": \"Zoras Domain\"}}}"),
+                "region", 1);
+
+        /* Regions that share an alias group stay apart */
+        int[] lostWoods = index.findValue("Lost Woods", 0);
+        assertEquals(1, lostWoods.length);
+        assertEquals("KF Outside Deku Tree -> Deku Tree Lobby", index.name(lostWoods[0]));
+        assertEquals(2, index.sphere(index.findValue("LW Underwater Entrance", 0)[0]));
+
+        /* An exit alias finds the region it names */
+        int[] kokiriForest = index.findValue("kf", 0);
+        assertEquals(1, kokiriForest.length);
+        assertEquals("Lost Woods", index.from(kokiriForest[0]));
+        assertEquals(0, index.findValue("Nowhere", 0).length);
+    }
+
+
+    private static JSONObject parse(String json) throws Exception {
+        return (JSONObject)new JSONParser().parse(json);
+    }
+}
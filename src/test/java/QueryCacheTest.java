@@ -0,0 +1,110 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+
+/**
+ * Answers kept by alias-resolved query, and dropped with the log they came from.
+ */
+public class QueryCacheTest {
+
+    private static final Path SAMPLE = Paths.get("samplespoilers", "multiworldv8.json");
+
+    private static final String SEED = "HZHAYR708D";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+
+    @Test
+    public void aliasesShareAnAnswer() throws Exception {
+        SpoilerStore store = new SpoilerStore();
+        store.load(SAMPLE);
+        OOTRSpoiler spoiler = store.spoiler(SEED);
+        QueryCache cache = new QueryCache(16);
+
+        String answer = cache.get(spoiler, new String[] {"item_pool", "1", "Progressive Hookshot"});
+        assertEquals(answer, cache.get(spoiler, new String[] {"item_pool", "1", "hookshot"}));
+        assertEquals(answer, cache.get(spoiler, new String[] {"ip", "1", "longshot"}));
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.hits());
+
+        /* An unknown key is neither answered nor kept */
+        assertNull(cache.get(spoiler, new String[] {"nosuchkey"}));
+        assertEquals(1, cache.size());
+    }
+
+
+    @Test
+    public void boundsHoldAfterEveryAnswer() throws Exception {
+        SpoilerStore store = new SpoilerStore();
+        store.load(SAMPLE);
+        OOTRSpoiler spoiler = store.spoiler(SEED);
+
+        QueryCache byCount = new QueryCache(2);
+        for (String setting : new String[] {"bridge", "trials", "shuffle_song_items"}) {
+            byCount.get(spoiler, new String[] {"settings", setting});
+        }
+        assertEquals(2, byCount.size());
+
+        /* Every location of a world is longer than a quarter of the budget, so it is not kept */
+        QueryCache byChars = new QueryCache(16, 4096);
+        assertNotNull(byChars.get(spoiler, new String[] {"locations", "1"}));
+        assertEquals(0, byChars.size());
+    }
+
+
+    @Test
+    public void reloadedAndRemovedLogsDropTheirAnswers() throws Exception {
+        Path log = folder.getRoot().toPath().resolve("log.json");
+        Files.copy(SAMPLE, log);
+        SpoilerStore store = new SpoilerStore();
+        QueryCache cache = new QueryCache(16);
+        store.addReleaseListener(cache::invalidate);
+
+        store.load(log);
+        OOTRSpoiler first = store.spoiler(SEED);
+        cache.get(first, new String[] {"settings", "bridge"});
+        cache.get(first, new String[] {"item_pool", "2", "hookshot"});
+        assertEquals(2, cache.size());
+
+        store.load(log);
+        assertEquals(0, cache.size());
+        OOTRSpoiler second = store.spoiler(SEED);
+        assertNotSame(first, second);
+
+        cache.get(second, new String[] {"settings", "bridge"});
+        assertEquals(1, cache.size());
+        store.remove(log);
+        assertEquals(0, cache.size());
+        assertNull(store.spoiler(SEED));
+    }
+
+
+    @Test
+    public void evictedLogsDropTheirAnswers() throws Exception {
+        Path other = folder.getRoot().toPath().resolve("generated.json");
+        new SpoilerGenerator(1, 40, 3, 5, 7).write(other);
+        SpoilerStore store = new SpoilerStore(1);
+        QueryCache cache = new QueryCache(16);
+        store.addReleaseListener(cache::invalidate);
+
+        store.load(SAMPLE);
+        String otherSeed = store.load(other);
+        cache.get(store.spoiler(SEED), new String[] {"settings", "bridge"});
+        assertEquals(1, cache.size());
+
+        /* Only one log is kept parsed, so querying the other lets go of the first */
+        cache.get(store.spoiler(otherSeed), new String[] {"settings", "bridge"});
+        assertEquals(1, cache.size());
+    }
+}
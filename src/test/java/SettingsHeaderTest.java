@@ -0,0 +1,46 @@
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+
+/**
+ * Settings read from the start of a log, and the settings remembered per settings string.
+ */
+public class SettingsHeaderTest {
+
+    private static final Path SAMPLE = Paths.get("samplespoilers", "multiworldv8.json");
+
+
+    @Test
+    public void readsWhatAFullParseReads() throws Exception {
+        OOTRSpoiler spoiler = new OOTRSpoiler(SAMPLE.toString(), true, false);
+        JSONObject header = SettingsHeader.read(SAMPLE);
+
+        assertEquals(spoiler.getKey(":version"), header.get(":version"));
+        assertEquals(spoiler.getKey(":settings_string"), header.get(":settings_string"));
+        assertEquals(spoiler.getKey("settings"), header.get("settings"));
+        assertFalse(header.containsKey("locations"));
+    }
+
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void callersCannotChangeRememberedSettings() throws Exception {
+        Object expected = new OOTRSpoiler(SAMPLE.toString(), true, false).getKey("settings");
+
+        /* Read twice, so the second read comes from the remembered settings */
+        SettingsHeader.read(SAMPLE);
+        JSONObject changed = (JSONObject)SettingsHeader.read(SAMPLE).get("settings");
+        ((JSONArray)changed.get("allowed_tricks")).add("not a trick");
+        ((JSONObject)changed.get("starting_items")).put("Bombchus", 99L);
+        changed.put("bridge", "changed");
+
+        assertEquals(expected, SettingsHeader.read(SAMPLE).get("settings"));
+    }
+}
@@ -0,0 +1,49 @@
+import org.json.simple.JSONObject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Generated logs must load and answer like the randomizer's own logs.
+ */
+public class SpoilerGeneratorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+
+    @Test
+    public void singleWorldLogAnswersQueries() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("single.json");
+        new SpoilerGenerator(1, 40, 3, 5, 7).write(path);
+
+        for (boolean lazy : new boolean[] {false, true}) {
+            OOTRSpoiler spoiler = new OOTRSpoiler(path.toString(), true, lazy);
+            assertTrue(spoiler.isValid());
+            assertEquals(1, spoiler.getWorldCount());
+
+            /* Single world logs hold their sections directly, without "World 1" */
+            JSONObject locations = (JSONObject)spoiler.getKey("locations");
+            assertFalse(locations.containsKey("World 1"));
+            Map.Entry<?, ?> placement = (Map.Entry<?, ?>)locations.entrySet().iterator().next();
+
+            JSONObject where = spoiler.get(new String[] {"where", (String)placement.getValue()});
+            JSONObject world = (JSONObject)where.get("World 1");
+            assertTrue(world.containsKey(placement.getKey()));
+
+            assertEquals(1L, spoiler.get(new String[] {"settings", "world_count"}).get("world_count"));
+            assertFalse(spoiler.get(new String[] {"randomized_settings"}).isEmpty());
+            assertFalse(spoiler.get(new String[] {"item_pool"}).isEmpty());
+            assertNotNull(spoiler.get(new String[] {"hints", (String)placement.getValue()}));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Queries answered over HTTP, and the errors of queries that cannot be.
+ */
+public class SpoilerServerTest {
+
+    private static final Path SAMPLE = Paths.get("samplespoilers", "multiworldv8.json");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SpoilerStore store;
+
+    private SpoilerServer server;
+
+    private int port;
+
+
+    @Before
+    public void setUp() throws Exception {
+        Files.copy(SAMPLE, folder.getRoot().toPath().resolve("log.json"));
+        store = new SpoilerStore(1);
+        assertEquals(1, store.loadDirectory(folder.getRoot().toPath()));
+        server = new SpoilerServer(store);
+        port = server.start(0);
+    }
+
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+
+    @Test
+    public void answersLikeTheStore() throws Exception {
+        JSONObject expected = store.get("HZHAYR708D", new String[] {"item_pool", "1", "hookshot"});
+        assertEquals(expected, request("/seed/HZHAYR708D/item_pool/1/hookshot", 200));
+
+        /* The file hash finds the same log, and the second answer comes from the cache */
+        assertEquals(expected, request("/seed/" + fileHash() + "/item_pool/1/hookshot", 200));
+        assertEquals(1, server.queryCache().hits());
+
+        /* The server parses through the store's cache, not one of its own */
+        assertSame(store.spoiler("HZHAYR708D"), store.spoiler("HZHAYR708D"));
+    }
+
+
+    @Test
+    public void rejectsWhatItCannotAnswer() throws Exception {
+        assertTrue(request("/seed/NOSUCHSEED/settings", 404).containsKey("error"));
+        assertTrue(request("/seed/HZHAYR708D/nosuchkey", 404).containsKey("error"));
+        assertTrue(request("/seed/HZHAYR708D/item_pool/9/hookshot", 400).containsKey("error"));
+    }
+
+
+    private String fileHash() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (Object icon : (Iterable<?>)store.sections("HZHAYR708D").parse("file_hash")) {
+            sb.append((sb.length() == 0) ? "" : ",").append(icon.toString().replace(" ", "%20"));
+        }
+        return sb.toString();
+    }
+
+
+    private JSONObject request(String path, int status) throws Exception {
+        HttpURLConnection connection = (HttpURLConnection)new URL("http://127.0.0.1:" + port + path).openConnection();
+        assertEquals(status, connection.getResponseCode());
+        try (InputStream body = (status == 200) ? connection.getInputStream() : connection.getErrorStream();
+             Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return (JSONObject)new JSONParser().parse(reader);
+        }
+    }
+}
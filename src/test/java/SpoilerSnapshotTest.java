@@ -0,0 +1,111 @@
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+
+/**
+ * Snapshots written from a parsed log and read back.
+ */
+public class SpoilerSnapshotTest {
+
+    private static final Path SAMPLE = Paths.get("samplespoilers", "multiworldv8.json");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path defaultDirectory;
+
+    private Path log;
+
+    private JSONObject parsed;
+
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        defaultDirectory = SpoilerSnapshot.directory();
+        SpoilerSnapshot.setDirectory(folder.newFolder("snapshots").toPath());
+
+        /* Every kind of value a section can hold */
+        String text = new String(Files.readAllBytes(SAMPLE), StandardCharsets.UTF_8);
+        parsed = (JSONObject)new JSONParser().parse(text);
+        parsed.put("values", new JSONParser().parse(
+                "{\"null\": null, \"true\": true, \"false\": false, \"long\": -5000000000, \"double\": 1.5,"
+                + " \"string\": \"\\u00e9\\u2764\", \"array\": [1, \"Kokiri Sword\", {}, []]}"));
+        log = folder.getRoot().toPath().resolve("log.json");
+        Files.write(log, parsed.toJSONString().getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    @After
+    public void tearDown() {
+        SpoilerSnapshot.setDirectory(defaultDirectory);
+    }
+
+
+    @Test
+    public void sectionsAndPlacementsReadBack() throws Exception {
+        PlacementTable placements = PlacementTable.build((JSONObject)parsed.get("locations"), 2);
+        SpoilerSnapshot.write(log, parsed, placements);
+
+        SpoilerSnapshot snapshot = SpoilerSnapshot.open(log, new StringPool());
+        assertNotNull(snapshot);
+        assertEquals("HZHAYR708D", snapshot.seed());
+        assertEquals(SpoilerStore.fileHashId((JSONArray)parsed.get("file_hash")), snapshot.fileHash());
+        assertEquals(parsed.keySet(), snapshot.keys());
+        for (Object key : parsed.keySet()) {
+            assertEquals(key.toString(), parsed.get(key), snapshot.decode((String)key, new StringPool().containerFactory()));
+        }
+        assertNull(snapshot.decode("no such section", new StringPool().containerFactory()));
+
+        PlacementTable read = snapshot.placements();
+        assertEquals(placements.worldCount(), read.worldCount());
+        for (int world = 1; world <= placements.worldCount(); world++) {
+            assertEquals(placements.size(world), read.size(world));
+            for (int i = 0; i < placements.size(world); i++) {
+                assertEquals(placements.location(world, i), read.location(world, i));
+                assertEquals(placements.item(world, i), read.item(world, i));
+                assertEquals(placements.player(world, i), read.player(world, i));
+            }
+        }
+    }
+
+
+    @Test
+    public void changedLogsAndDamagedSnapshotsAreIgnored() throws Exception {
+        SpoilerSnapshot.write(log, parsed, PlacementTable.build((JSONObject)parsed.get("locations"), 2));
+        Path snap = SpoilerSnapshot.pathFor(log);
+
+        try (RandomAccessFile file = new RandomAccessFile(snap.toFile(), "rw")) {
+            file.setLength(file.length() / 2);
+        }
+        assertNull(SpoilerSnapshot.open(log, new StringPool()));
+
+        SpoilerSnapshot.write(log, parsed, PlacementTable.build((JSONObject)parsed.get("locations"), 2));
+        assertNotNull(SpoilerSnapshot.open(log, new StringPool()));
+        Files.write(log, " ".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertNull(SpoilerSnapshot.open(log, new StringPool()));
+
+        /* Logs of the same name in other directories have snapshots of their own */
+        Path other = folder.newFolder("other").toPath().resolve("log.json");
+        assertFalse(snap.equals(SpoilerSnapshot.pathFor(other)));
+        assertEquals(snap, SpoilerSnapshot.pathFor(log.getParent().resolve(".").resolve("log.json")));
+    }
+}
@@ -0,0 +1,144 @@
+import org.json.simple.parser.ParseException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Reloading of watched logs that are truncated, rewritten or deleted.
+ */
+public class SpoilerWatcherTest {
+
+    private static final Path SAMPLE = Paths.get("samplespoilers", "multiworldv8.json");
+
+    private static final String SAMPLE_SEED = "HZHAYR708D";
+
+    private static final long TIMEOUT_MILLIS = 20000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SpoilerStore store;
+
+    private SpoilerWatcher watcher;
+
+    private Path log;
+
+
+    @Before
+    public void setUp() throws Exception {
+        Path dir = folder.newFolder("watched").toPath();
+        log = dir.resolve("log.json");
+        Files.copy(SAMPLE, log);
+
+        store = new SpoilerStore();
+        watcher = new SpoilerWatcher(store, dir, 1);
+        watcher.start();
+        waitFor(() -> store.contains(SAMPLE_SEED));
+    }
+
+
+    @After
+    public void tearDown() throws Exception {
+        watcher.close();
+    }
+
+
+    @Test
+    public void truncatedLogKeepsAnswering() throws Exception {
+        String[] query = {"settings", "bridge"};
+        String before = store.get(SAMPLE_SEED, query).toJSONString();
+
+        try (RandomAccessFile file = new RandomAccessFile(log.toFile(), "rw")) {
+            file.setLength(10);
+        }
+        Thread.sleep(SpoilerWatcher.SETTLE_MILLIS * 3);
+        assertEquals(before, store.get(SAMPLE_SEED, query).toJSONString());
+        assertTrue(store.get(SAMPLE_SEED, new String[] {"where", "hookshot"}).containsKey("World 1"));
+    }
+
+
+    @Test
+    public void reloadedLogReplacesItsOldSeed() throws Exception {
+        /* Written outside the watched directory, then moved over the log */
+        Path generated = folder.newFile("generated.json").toPath();
+        new SpoilerGenerator(1, 40, 3, 5, 7).write(generated);
+        Files.move(generated, log, StandardCopyOption.REPLACE_EXISTING);
+
+        waitFor(() -> !store.contains(SAMPLE_SEED));
+        assertEquals(1, store.seeds().size());
+        assertEquals(1, store.paths().size());
+    }
+
+
+    @Test
+    public void deletedLogIsUnloaded() throws Exception {
+        Files.delete(log);
+
+        waitFor(() -> !store.contains(SAMPLE_SEED));
+        assertTrue(store.paths().isEmpty());
+        assertFalse(store.remove(log));
+    }
+
+
+    @Test
+    public void unexpectedFailuresAreReportedAndRetried() throws Exception {
+        AtomicBoolean failed = new AtomicBoolean();
+        SpoilerStore failing = new SpoilerStore() {
+            @Override
+            public String load(Path path, boolean copy) throws IOException, ParseException {
+                if (failed.compareAndSet(false, true)) {
+                    throw new IllegalStateException("load failed");
+                }
+                return super.load(path, copy);
+            }
+        };
+        Path dir = folder.newFolder("failing").toPath();
+        Path other = dir.resolve("log.json");
+
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(printed, true, "UTF-8"));
+        try (SpoilerWatcher failingWatcher = new SpoilerWatcher(failing, dir, 1)) {
+            failingWatcher.start();
+            Files.copy(SAMPLE, other);
+            waitFor(() -> printed.toString("UTF-8").contains("load failed"));
+
+            /* The next change loads it */
+            Files.write(other, Files.readAllBytes(SAMPLE));
+            waitFor(() -> failing.contains(SAMPLE_SEED));
+        }
+        finally {
+            System.setOut(out);
+        }
+        assertTrue(printed.toString("UTF-8").contains("Skipping " + other.toAbsolutePath()));
+    }
+
+
+    private static void waitFor(Callable<Boolean> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.call()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting for the watcher");
+            }
+            Thread.sleep(20);
+        }
+    }
+}